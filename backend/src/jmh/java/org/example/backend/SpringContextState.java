@@ -0,0 +1,38 @@
+package org.example.backend;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (H2 + data.sql 시드, 메모리 대기열, 임의 포트).
+ */
+@State(Scope.Benchmark)
+public class SpringContextState {
+
+    public ConfigurableApplicationContext context;
+
+    @Setup
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "enroll.queue.backend=memory",
+                        "enroll.queue.mode=POLLING",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.backend.domain.course.service;
+
+import org.example.backend.SpringContextState;
+import org.example.backend.domain.course.dto.CourseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강의 목록 조회 + 응답 변환(toResponse) 시간 (H2, data.sql의 강의 180개).
+ * 변환 중 교수·사용자·학과 지연 로딩이 일어나므로, 조회 방식 개선 전후 비교 기준으로 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseServiceBenchmark {
+
+    @Param({"20", "180"})
+    public int pageSize;
+
+    private CourseService courseService;
+
+    @Setup
+    public void setUp(SpringContextState spring) {
+        courseService = spring.bean(CourseService.class);
+    }
+
+    @Benchmark
+    public Page<CourseResponse> findAll() {
+        return courseService.findAll(null, null, null, null, PageRequest.of(0, pageSize));
+    }
+
+    @Benchmark
+    public CourseResponse findById() {
+        return courseService.findById(1L);
+    }
+}
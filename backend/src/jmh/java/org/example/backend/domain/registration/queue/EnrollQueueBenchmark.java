@@ -0,0 +1,64 @@
+package org.example.backend.domain.registration.queue;
+
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 연산 처리량 (InMemoryEnrollQueue, Redis 없이 프로세스 안에서).
+ * queueLength명이 대기 중인 강의에서 순번 조회, 등록 후 꺼내기(대기 인원 유지)를 측정한다.
+ * contended는 8스레드가 같은 강의 큐에 동시에 등록·꺼내기를 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EnrollQueueBenchmark {
+
+    private static final Long COURSE_ID = 1L;
+
+    @Param({"100", "10000", "100000"})
+    public int queueLength;
+
+    private InMemoryEnrollQueue queue;
+    private final AtomicLong nextUserId = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        queue = new InMemoryEnrollQueue(event -> { }, new EnrollQueueProperties(), Optional.empty());
+        for (long uid = 0; uid < queueLength; uid++) {
+            queue.enqueue(COURSE_ID, uid, Integer.MAX_VALUE);
+        }
+        nextUserId.set(queueLength);
+    }
+
+    @Benchmark
+    public long getPosition() {
+        long uid = nextUserId.get() - 1 - ThreadLocalRandom.current().nextInt(queueLength);
+        return queue.getPosition(COURSE_ID, uid);
+    }
+
+    @Benchmark
+    public Long enqueueThenPop() {
+        queue.enqueue(COURSE_ID, nextUserId.getAndIncrement(), Integer.MAX_VALUE);
+        return queue.popOne(COURSE_ID);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long enqueueThenPop_contended() {
+        queue.enqueue(COURSE_ID, nextUserId.getAndIncrement(), Integer.MAX_VALUE);
+        return queue.popOne(COURSE_ID);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.backend.domain.registration.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.backend.SpringContextState;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.example.backend.global.config.EnrollQueueProperties.Locking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수강신청 DB 처리(enrollInternal) 처리량 (H2, data.sql 시드).
+ * 스레드마다 다른 학생이 신청 후 바로 취소해 데이터 크기를 유지한다.
+ * courses=1이면 모든 스레드가 같은 강의 행을 두고 경쟁하고, courses=8이면 강의별로 흩어진다.
+ * locking별(행 잠금 vs @Version 재시도 vs 조건부 UPDATE) 처리량을 비교하고, 종료 시 버전 충돌 재시도·포기 비율을 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class EnrollmentServiceBenchmark {
+
+    @Param({"1", "8"})
+    public int courses;
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL"})
+    public Locking locking;
+
+    private EnrollmentService enrollmentService;
+    private JdbcTemplate jdbc;
+    private MeterRegistry registry;
+    private final LongAdder enrolled = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+
+    @Setup
+    public void setUp(SpringContextState spring) {
+        enrollmentService = spring.bean(EnrollmentService.class);
+        jdbc = spring.bean(JdbcTemplate.class);
+        registry = spring.bean(MeterRegistry.class);
+        spring.bean(EnrollQueueProperties.class).setLocking(locking);
+        jdbc.update("UPDATE courses SET capacity = 1000000");
+        jdbc.update("UPDATE students SET max_credits = 1000000");
+    }
+
+    @State(Scope.Thread)
+    public static class Pair {
+        Long userId;
+        Long courseId;
+
+        @Setup
+        public void pick(EnrollmentServiceBenchmark bench, ThreadParams thread) {
+            courseId = (long) (thread.getThreadIndex() % bench.courses) + 1;
+            // 대상 학년이 맞고 아직 신청하지 않은 학생 중 스레드 순번째
+            List<Long> candidates = bench.jdbc.queryForList("""
+                    SELECT s.user_id FROM students s JOIN courses c ON c.target_grade = s.grade
+                    WHERE c.id = ? AND NOT EXISTS (
+                        SELECT 1 FROM registrations r WHERE r.student_id = s.id AND r.course_id = c.id)
+                    ORDER BY s.id
+                    """, Long.class, courseId);
+            userId = candidates.get(thread.getThreadIndex() / bench.courses);
+        }
+    }
+
+    @TearDown
+    public void report() {
+        double retried = conflicts("retried");
+        System.out.printf("%n[admission] locking=%s courses=%d enrolled=%d retried/op=%.3f aborted/op=%.4f%n",
+                locking, courses, enrolled.sum(), retried / Math.max(1, enrolled.sum()),
+                (double) aborted.sum() / Math.max(1, enrolled.sum() + aborted.sum()));
+    }
+
+    /** 신청 후 바로 취소. 재시도 소진(포기)된 신청은 건너뛰고, 취소는 될 때까지 다시 시도 */
+    @Benchmark
+    public void enrollThenCancel(Pair pair) {
+        if (!attempt(() -> enrollmentService.enrollInternal(pair.userId, pair.courseId))) return;
+        enrolled.increment();
+        while (!attempt(() -> enrollmentService.cancel(pair.userId, pair.courseId))) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private boolean attempt(Runnable op) {
+        try {
+            op.run();
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            aborted.increment();
+            return false;
+        }
+    }
+
+    private double conflicts(String result) {
+        Counter counter = registry.find("enroll.admission.conflict").tag("result", result).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
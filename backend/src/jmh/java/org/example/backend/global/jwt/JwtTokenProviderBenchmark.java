@@ -0,0 +1,63 @@
+package org.example.backend.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.example.backend.domain.user.entity.Role;
+import org.example.backend.global.config.JwtProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 비용 (요청마다 JwtAuthenticationFilter에서 수행).
+ * 유효한 토큰 파싱·검증과, 서명이 틀린 토큰의 예외 경로를 측정한다.
+ * verifiedClaims는 tokenCache=true면 같은 토큰을 캐시에서 꺼내므로 (SHA-256 한 번 + 맵 조회) 서명 검증·JSON 파싱 비용이 빠진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean tokenCache;
+
+    private JwtTokenProvider provider;
+    private String token;
+    private String forged;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-minimum-32-characters-long");
+        properties.getTokenCache().setEnabled(tokenCache);
+        provider = new JwtTokenProvider(properties);
+        token = provider.createAccessToken(52L, "s00001", Role.ROLE_STUDENT);
+        forged = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return provider.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims verifiedClaims() {
+        return provider.verifiedClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken_forged() {
+        return provider.validateToken(forged);
+    }
+}
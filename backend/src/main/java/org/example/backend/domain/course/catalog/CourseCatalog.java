@@ -0,0 +1,279 @@
+package org.example.backend.domain.course.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.course.dto.CourseResponse;
+import org.example.backend.domain.course.entity.Category;
+import org.example.backend.domain.course.entity.Course;
+import org.example.backend.domain.course.event.CourseChangedEvent;
+import org.example.backend.domain.course.repository.CourseRepository;
+import org.example.backend.domain.course.service.TimetableMask;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 강의 목록 캐시 (course.catalog.enabled, 기본 사용).
+ * 시작할 때 강의·교수명·학과명을 한 번에 읽어 두고, 학과·학년·이수구분별 강의 목록(ID 순)을 미리 만들어
+ * 목록 조회를 DB 없이 처리한다. 가장 짧은 색인 목록만 훑고 나머지 조건은 메모리에서 거른다.
+ * 신청 인원 변경은 CourseChangedEvent의 enrollmentDelta를 커밋 후 메모리에 더하기만 하고 (DB 조회 없음),
+ * 강의 정보 변경은 표시해 두었다가 다음 조회 때 행을 다시 읽고 색인을 새로 만든다.
+ * 놓친 변경에 대비해 reloadIntervalMs마다 전체를 다시 읽는다.
+ * 다시 읽을 때는 조회 직전까지 더해 둔 변화량만 빼므로, 조회와 교체 사이에 들어온 변화량은 남는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "course.catalog", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CourseCatalog {
+
+    private final CourseRepository courseRepository;
+
+    /** 강의 정보와 색인 (변경 시 통째로 교체) */
+    private volatile Snapshot snapshot;
+    /** 강의 ID → 적재 이후 신청 인원 변화량 */
+    private final Map<Long, Integer> enrollmentDeltas = new ConcurrentHashMap<>();
+    /** 다시 읽을 강의 (정보 변경) */
+    private final Set<Long> changedCourses = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloadAll = true;
+    /** 강의 정보 재적재 (DB 조회 중 대기하므로 synchronized 대신 써서 가상 스레드를 캐리어에 고정하지 않음) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    /** 변화량 누적과 스냅샷 교체·반영된 변화량 빼기를 서로 배제 (읽는 쪽이 같은 변화를 두 번 보지 않게) */
+    private final ReentrantLock enrollmentLock = new ReentrantLock();
+
+    public CourseCatalog(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /** 시작 시 적재. 실패하면 첫 조회 때 다시 시도 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            log.warn("Course catalog load failed, retried on first read: {}", e.getMessage());
+        }
+    }
+
+    /** 놓친 변경 대비 전체 재적재 */
+    @Scheduled(fixedDelayString = "${course.catalog.reload-interval-ms:300000}",
+            initialDelayString = "${course.catalog.reload-interval-ms:300000}")
+    public void reload() {
+        reloadAll = true;
+    }
+
+    /** 커밋된 변경 표시 (롤백되면 표시하지 않음, 트랜잭션 밖 발행이면 바로) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.courseId() == null) reloadAll = true;
+        else if (event.enrollmentOnly()) addEnrollment(event.courseId(), event.enrollmentDelta());
+        else changedCourses.add(event.courseId());
+    }
+
+    private void addEnrollment(Long courseId, int delta) {
+        if (delta == 0) return;
+        enrollmentLock.lock();
+        try {
+            enrollmentDeltas.merge(courseId, delta, Integer::sum);
+        } finally {
+            enrollmentLock.unlock();
+        }
+    }
+
+    /**
+     * 목록 조회 (ID 순). timetable이 0이 아니면 그 시간표와 겹치지 않는 강의만.
+     * 정렬 조건이 있는 페이지 요청은 처리하지 않으므로 호출 측이 DB로 조회한다.
+     */
+    public Page<CourseResponse> find(Long departmentId, Integer targetGrade, Category category, long timetable,
+                                     Pageable pageable) {
+        Snapshot s = current();
+        List<Entry> candidates = s.all;
+        if (departmentId != null) candidates = shorter(candidates, s.byDepartment.getOrDefault(departmentId, List.of()));
+        if (targetGrade != null) candidates = shorter(candidates, s.byGrade.getOrDefault(targetGrade, List.of()));
+        if (category != null) candidates = shorter(candidates, s.byCategory.getOrDefault(category, List.of()));
+
+        Predicate<Entry> filter = e -> (departmentId == null || departmentId.equals(e.departmentId))
+                && (targetGrade == null || targetGrade.equals(e.targetGrade))
+                && (category == null || category == e.category)
+                && !TimetableMask.overlaps(e.scheduleMask, timetable);
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int size = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<CourseResponse> content = new ArrayList<>();
+        long total = 0;
+        for (Entry e : candidates) {
+            if (!filter.test(e)) continue;
+            if (total >= offset && content.size() < size) content.add(e.toResponse(enrollment(e)));
+            total++;
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /** 강의 상세 */
+    public Optional<CourseResponse> get(Long courseId) {
+        Entry e = current().byId.get(courseId);
+        return e == null ? Optional.empty() : Optional.of(e.toResponse(enrollment(e)));
+    }
+
+    private int enrollment(Entry e) {
+        return e.currentEnrollment + enrollmentDeltas.getOrDefault(e.id, 0);
+    }
+
+    private static List<Entry> shorter(List<Entry> a, List<Entry> b) {
+        return b.size() < a.size() ? b : a;
+    }
+
+    /** 표시된 변경을 반영한 현재 스냅샷 */
+    private Snapshot current() {
+        if (reloadAll || snapshot == null || !changedCourses.isEmpty()) applyCourseChanges();
+        return snapshot;
+    }
+
+    private void applyCourseChanges() {
+        reloadLock.lock();
+        try {
+            reloadCourses();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reloadCourses() {
+        if (reloadAll || snapshot == null) {
+            reloadAll = false;
+            changedCourses.clear();
+            try {
+                Map<Long, Integer> applied = captureDeltas(null);
+                List<Course> courses = courseRepository.findAllWithDetails();
+                Map<Long, Entry> byId = new HashMap<>();
+                courses.forEach(c -> byId.put(c.getId(), Entry.of(c)));
+                swap(Snapshot.of(byId), applied);
+                log.debug("Course catalog loaded: {} courses", byId.size());
+            } catch (RuntimeException e) {
+                reloadAll = true;
+                throw e;
+            }
+            return;
+        }
+        List<Long> ids = drain(changedCourses);
+        if (ids.isEmpty()) return;
+        try {
+            Map<Long, Integer> applied = captureDeltas(ids);
+            Map<Long, Entry> byId = new HashMap<>(snapshot.byId);
+            ids.forEach(byId::remove);
+            for (Course c : courseRepository.findAllWithDetailsByIdIn(ids)) {
+                byId.put(c.getId(), Entry.of(c));
+            }
+            swap(Snapshot.of(byId), applied);
+        } catch (RuntimeException e) {
+            changedCourses.addAll(ids);
+            throw e;
+        }
+    }
+
+    /** 다시 읽기 직전의 변화량 (ids가 null이면 전체). 이만큼은 곧 읽을 행에 반영돼 있다 */
+    private Map<Long, Integer> captureDeltas(Collection<Long> ids) {
+        enrollmentLock.lock();
+        try {
+            if (ids == null) return new HashMap<>(enrollmentDeltas);
+            Map<Long, Integer> captured = new HashMap<>();
+            ids.forEach(id -> {
+                Integer delta = enrollmentDeltas.get(id);
+                if (delta != null) captured.put(id, delta);
+            });
+            return captured;
+        } finally {
+            enrollmentLock.unlock();
+        }
+    }
+
+    /** 스냅샷을 바꾸고, 읽은 행에 이미 반영된 변화량(applied)만 뺌 (조회 중 들어온 변화량은 남김) */
+    private void swap(Snapshot next, Map<Long, Integer> applied) {
+        enrollmentLock.lock();
+        try {
+            applied.forEach((id, delta) -> enrollmentDeltas.merge(id, -delta, Integer::sum));
+            enrollmentDeltas.values().removeIf(v -> v == 0);
+            enrollmentDeltas.keySet().retainAll(next.byId.keySet());
+            snapshot = next;
+        } finally {
+            enrollmentLock.unlock();
+        }
+    }
+
+    /** 표시를 꺼내며 지움 (꺼낸 뒤 들어온 표시는 다음 조회에서 반영) */
+    private static List<Long> drain(Set<Long> changed) {
+        List<Long> ids = new ArrayList<>();
+        for (Long id : changed) {
+            if (changed.remove(id)) ids.add(id);
+        }
+        return ids;
+    }
+
+    /** 강의 정보 (신청 인원은 적재 시점 값, 이후 변화량은 enrollmentDeltas) */
+    private record Entry(Long id, Long professorId, String professorName, Long departmentId, String departmentName,
+                         String courseCode, String title, Category category, Integer credit, Integer capacity,
+                         int currentEnrollment, Integer targetGrade, String schedule, long scheduleMask) {
+
+        static Entry of(Course c) {
+            return new Entry(c.getId(), c.getProfessor().getId(), c.getProfessor().getUser().getName(),
+                    c.getDepartment().getId(), c.getDepartment().getName(), c.getCourseCode(), c.getTitle(),
+                    c.getCategory(), c.getCredit(), c.getCapacity(), c.getCurrentEnrollment(), c.getTargetGrade(),
+                    c.getSchedule(), c.getScheduleMask());
+        }
+
+        CourseResponse toResponse(int enrollment) {
+            return CourseResponse.builder()
+                    .id(id)
+                    .professorId(professorId)
+                    .professorName(professorName)
+                    .departmentId(departmentId)
+                    .departmentName(departmentName)
+                    .courseCode(courseCode)
+                    .title(title)
+                    .category(category)
+                    .credit(credit)
+                    .capacity(capacity)
+                    .currentEnrollment(enrollment)
+                    .targetGrade(targetGrade)
+                    .schedule(schedule)
+                    .build();
+        }
+    }
+
+    /** 강의 ID → 정보, 전체·학과·학년·이수구분별 목록 (ID 순, 읽기 전용) */
+    private record Snapshot(Map<Long, Entry> byId, List<Entry> all, Map<Long, List<Entry>> byDepartment,
+                            Map<Integer, List<Entry>> byGrade, Map<Category, List<Entry>> byCategory) {
+
+        static Snapshot of(Map<Long, Entry> byId) {
+            List<Entry> all = byId.values().stream().sorted(Comparator.comparing(Entry::id)).toList();
+            Map<Category, List<Entry>> byCategory = new EnumMap<>(Category.class);
+            byCategory.putAll(index(all, Entry::category));
+            return new Snapshot(Map.copyOf(byId), all, index(all, Entry::departmentId), index(all, Entry::targetGrade),
+                    byCategory);
+        }
+
+        private static <K> Map<K, List<Entry>> index(List<Entry> all, Function<Entry, K> key) {
+            Map<K, List<Entry>> index = new HashMap<>();
+            all.forEach(e -> index.computeIfAbsent(key.apply(e), k -> new ArrayList<>()).add(e));
+            index.replaceAll((k, list) -> List.copyOf(list));
+            return index;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package org.example.backend.domain.course.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.course.dto.CourseResponse;
 import org.example.backend.domain.course.service.CourseService;
+import org.example.backend.domain.registration.service.EnrollDashboardService;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,11 +23,23 @@ import java.util.List;
 public class AdminCourseController {
 
     private final CourseService courseService;
+    private final EnrollDashboardService enrollDashboardService;
 
     @GetMapping
     public ResponseEntity<List<CourseResponse>> getAllCourses() {
         return ResponseEntity.ok(
-                courseService.findAll(null, null, null, PageRequest.of(0, 5000)).getContent()
+                courseService.findAll(null, null, null, null, PageRequest.of(0, 5000)).getContent()
         );
     }
+
+    /**
+     * 강의별 수강신청 현황 실시간 수신 (SSE).
+     * event: snapshot → { "courses": [ { "courseId", "courseCode", "title", "capacity", "enrolled", "queued",
+     *   "drainRate", "soldOut", "full", "error" }, ... ], "totals": { ... } }
+     * event: courses → 바뀐 강의만, 삭제된 강의는 "removed": [id, ...]
+     */
+    @GetMapping(value = "/dashboard", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> dashboard() {
+        return ResponseEntity.ok(enrollDashboardService.subscribe());
+    }
 }
@@ -4,14 +4,16 @@ import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.course.dto.CourseResponse;
 import org.example.backend.domain.course.entity.Category;
 import org.example.backend.domain.course.service.CourseService;
+import org.example.backend.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
- * 강의 조회 API: 목록·상세 (검색 필터: 학과, 학년, 이수구분).
+ * 강의 조회 API: 목록·상세 (검색 필터: 학과, 학년, 이수구분, 내 시간표와 겹치지 않는 강의).
  */
 @RestController
 @RequestMapping("/api/courses")
@@ -20,14 +22,17 @@ public class CourseController {
 
     private final CourseService courseService;
 
-    /** 전체 강의 목록 조회 (필터: departmentId, targetGrade, category) */
+    /** 전체 강의 목록 조회 (필터: departmentId, targetGrade, category, noConflict=true면 내 시간표와 겹치는 강의 제외) */
     @GetMapping
     public ResponseEntity<Page<CourseResponse>> getAll(
+            @AuthenticationPrincipal User user,
             @RequestParam(required = false) Long departmentId,
             @RequestParam(required = false) Integer targetGrade,
             @RequestParam(required = false) Category category,
+            @RequestParam(defaultValue = "false") boolean noConflict,
             @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(courseService.findAll(departmentId, targetGrade, category, pageable));
+        Long conflictFreeForUserId = noConflict && user != null ? user.getId() : null;
+        return ResponseEntity.ok(courseService.findAll(departmentId, targetGrade, category, conflictFreeForUserId, pageable));
     }
 
     /** 특정 강의 상세 조회 */
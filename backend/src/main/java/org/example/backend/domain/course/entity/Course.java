@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.professor.entity.Professor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 강의 엔티티.
@@ -65,4 +66,15 @@ public class Course {
     /** 강의 시간 (예: Mon 09:00-11:00) */
     @Column(nullable = false)
     private String schedule;
+
+    /** 강의 시간 비트마스크 (TimetableMask, 강의 시간을 바꿀 때 함께 갱신) */
+    @ColumnDefault("0")
+    @Column(name = "schedule_mask", nullable = false)
+    private Long scheduleMask;
+
+    /** 낙관적 잠금 버전 (수정될 때마다 증가, 커밋 시 읽은 값과 다르면 충돌) */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
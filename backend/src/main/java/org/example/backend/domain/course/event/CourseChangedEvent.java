@@ -0,0 +1,23 @@
+package org.example.backend.domain.course.event;
+
+/**
+ * 강의 목록에 보이는 값이 바뀜 (강의 목록 캐시 CourseCatalog, 수강신청 현황판 EnrollDashboardService가 커밋 후 구독).
+ * enrollmentOnly면 신청 인원만 enrollmentDelta만큼 바뀐 것, courseId가 null이면 전체 강의 (학과명 변경 등).
+ */
+public record CourseChangedEvent(Long courseId, boolean enrollmentOnly, int enrollmentDelta) {
+
+    /** 수강신청·취소로 신청 인원이 delta만큼 바뀜 */
+    public static CourseChangedEvent enrollment(Long courseId, int delta) {
+        return new CourseChangedEvent(courseId, true, delta);
+    }
+
+    /** 강의 등록·수정·삭제 */
+    public static CourseChangedEvent course(Long courseId) {
+        return new CourseChangedEvent(courseId, false, 0);
+    }
+
+    /** 여러 강의에 걸친 변경 (학과 수정·삭제) */
+    public static CourseChangedEvent all() {
+        return new CourseChangedEvent(null, false, 0);
+    }
+}
@@ -1,13 +1,19 @@
 package org.example.backend.domain.course.repository;
 
 import org.example.backend.domain.course.entity.Course;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,5 +28,79 @@ public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecif
     @Query("select c from Course c where c.id = :id")
     Optional<Course> findByIdForUpdate(@Param("id") Long id);
 
-    List<Course> findByProfessorId(Long professorId);
+    /** 목록 응답용: 교수·교수 계정·학과를 함께 조회 (행마다 추가 조회 없음) */
+    @Override
+    @EntityGraph(attributePaths = {"professor", "professor.user", "department"})
+    Page<Course> findAll(Specification<Course> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"professor", "professor.user", "department"})
+    Optional<Course> findWithDetailsById(Long id);
+
+    /** [Professor] 내 강의 목록 (교수 조회 없이 계정 ID로, 교수·학과 함께) */
+    @EntityGraph(attributePaths = {"professor", "professor.user", "department"})
+    List<Course> findByProfessorUserId(Long professorUserId);
+
+    /** 담당 교수의 계정 ID (본인 강의 확인용) */
+    @Query("select c.professor.user.id from Course c where c.id = :id")
+    Optional<Long> findProfessorUserIdById(@Param("id") Long id);
+
+    /** 강의 목록 캐시 적재용 (교수·교수 계정·학과를 함께 조회) */
+    @Query("select c from Course c join fetch c.professor p join fetch p.user join fetch c.department")
+    List<Course> findAllWithDetails();
+
+    @Query("select c from Course c join fetch c.professor p join fetch p.user join fetch c.department " +
+            "where c.id in :ids")
+    List<Course> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 수강신청 현황판 적재용 (강의 ID 순) */
+    @Query("select c.id as id, c.courseCode as courseCode, c.title as title, c.capacity as capacity, " +
+            "c.currentEnrollment as currentEnrollment from Course c order by c.id")
+    List<DashboardView> findDashboardViews();
+
+    @Query("select c.id as id, c.courseCode as courseCode, c.title as title, c.capacity as capacity, " +
+            "c.currentEnrollment as currentEnrollment from Course c where c.id in :ids")
+    List<DashboardView> findDashboardViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 수강신청 검증용 학점·대상 학년·시간표 (엔티티 로딩 없이) */
+    @Query("select c.credit as credit, c.targetGrade as targetGrade, c.scheduleMask as scheduleMask " +
+            "from Course c where c.id = :id")
+    Optional<AdmissionView> findAdmissionViewById(@Param("id") Long id);
+
+    /** 정원이 남아 있을 때만 신청 인원 +1 (버전도 증가). 반영된 행 수 (0이면 마감) */
+    @Modifying
+    @Query("update Course c set c.currentEnrollment = c.currentEnrollment + 1, c.version = c.version + 1 " +
+            "where c.id = :id and c.currentEnrollment < c.capacity")
+    int incrementEnrollmentIfAvailable(@Param("id") Long id);
+
+    /** 신청 인원 +count (버전도 증가, 메모리 좌석 재고의 지연 기록용) */
+    @Modifying
+    @Query("update Course c set c.currentEnrollment = c.currentEnrollment + :count, c.version = c.version + 1 " +
+            "where c.id = :id")
+    int addEnrollment(@Param("id") Long id, @Param("count") int count);
+
+    /** 신청 인원 -1 (버전도 증가). 반영된 행 수 */
+    @Modifying
+    @Query("update Course c set c.currentEnrollment = c.currentEnrollment - 1, c.version = c.version + 1 " +
+            "where c.id = :id and c.currentEnrollment > 0")
+    int decrementEnrollment(@Param("id") Long id);
+
+    interface AdmissionView {
+        Integer getCredit();
+
+        Integer getTargetGrade();
+
+        Long getScheduleMask();
+    }
+
+    interface DashboardView {
+        Long getId();
+
+        String getCourseCode();
+
+        String getTitle();
+
+        Integer getCapacity();
+
+        Integer getCurrentEnrollment();
+    }
 }
@@ -1,25 +1,35 @@
 package org.example.backend.domain.course.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.course.catalog.CourseCatalog;
 import org.example.backend.domain.course.dto.CourseCreateRequest;
 import org.example.backend.domain.course.dto.CourseResponse;
 import org.example.backend.domain.course.dto.CourseUpdateRequest;
 import org.example.backend.domain.course.entity.Course;
 import org.example.backend.domain.course.entity.Category;
+import org.example.backend.domain.course.event.CourseChangedEvent;
 import org.example.backend.domain.course.repository.CourseRepository;
 import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.department.repository.DepartmentRepository;
 import org.example.backend.domain.professor.entity.Professor;
 import org.example.backend.domain.professor.repository.ProfessorRepository;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.domain.registration.service.SeatWaitlistService;
+import org.example.backend.domain.student.repository.StudentRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 강의 조회·등록·수정·삭제 서비스.
@@ -31,10 +41,31 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final DepartmentRepository departmentRepository;
     private final ProfessorRepository professorRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollQueue enrollQueue;
+    private final SeatWaitlistService seatWaitlist;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<CourseCatalog> catalog;
+    private final PlatformTransactionManager transactionManager;
 
-    /** 전체 강의 목록 (필터: 학과, 학년, 이수구분) */
-    @Transactional(readOnly = true)
-    public Page<CourseResponse> findAll(Long departmentId, Integer targetGrade, Category category, Pageable pageable) {
+    /**
+     * 전체 강의 목록 (필터: 학과, 학년, 이수구분).
+     * conflictFreeForUserId가 주어지면 그 학생의 시간표와 겹치지 않는 강의만 (BITAND(schedule_mask, 학생 시간표) = 0).
+     * 강의 목록 캐시가 있고 정렬 조건이 없으면 트랜잭션 없이 캐시에서 조회하고 (커넥션은 시간표 조회 한 문장 동안만),
+     * 아니면 읽기 전용 트랜잭션으로 DB에서 조회한다.
+     */
+    public Page<CourseResponse> findAll(Long departmentId, Integer targetGrade, Category category,
+                                        Long conflictFreeForUserId, Pageable pageable) {
+        long timetable = conflictFreeForUserId == null ? 0L
+                : studentRepository.findScheduleMaskByUserId(conflictFreeForUserId).orElse(0L);
+        if (catalog.isPresent() && pageable.getSort().isUnsorted()) {
+            return catalog.get().find(departmentId, targetGrade, category, timetable, pageable);
+        }
+        return readOnly(() -> findAllFromDb(departmentId, targetGrade, category, timetable, pageable));
+    }
+
+    private Page<CourseResponse> findAllFromDb(Long departmentId, Integer targetGrade, Category category,
+                                               long timetable, Pageable pageable) {
         Specification<Course> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             if (departmentId != null) {
@@ -46,17 +77,28 @@ public class CourseService {
             if (category != null) {
                 predicates.add(cb.equal(root.get("category"), category));
             }
+            if (timetable != 0L) {
+                predicates.add(cb.equal(
+                        cb.function("BITAND", Long.class, root.get("scheduleMask"), cb.literal(timetable)), 0L));
+            }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
         return courseRepository.findAll(spec, pageable).map(this::toResponse);
     }
 
-    /** 특정 강의 상세 조회 */
-    @Transactional(readOnly = true)
+    /** 특정 강의 상세 조회 (캐시에 있으면 트랜잭션 없이) */
     public CourseResponse findById(Long id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
-        return toResponse(course);
+        Optional<CourseResponse> cached = catalog.flatMap(c -> c.get(id));
+        if (cached.isPresent()) return cached.get();
+        return readOnly(() -> toResponse(courseRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."))));
+    }
+
+    /** 캐시에 없을 때만 읽기 전용 트랜잭션으로 조회 (교수·학과 지연 로딩 포함) */
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> query.get());
     }
 
     /** [Professor] 신규 강의 등록 */
@@ -82,12 +124,17 @@ public class CourseService {
                 .currentEnrollment(0)
                 .targetGrade(request.getTargetGrade())
                 .schedule(request.getSchedule())
+                .scheduleMask(TimetableMask.parse(request.getSchedule()))
                 .build();
         course = courseRepository.save(course);
+        eventPublisher.publishEvent(CourseChangedEvent.course(course.getId()));
         return toResponse(course);
     }
 
-    /** [Professor] 내 강의 정보 수정 */
+    /**
+     * [Professor] 내 강의 정보 수정. 정원이 늘면 같은 트랜잭션에서 빈자리 대기 학생을 수강신청.
+     * 강의 시간이 바뀌면 수강생들의 시간표를 다시 계산한다 (이미 신청한 내역은 겹쳐도 유지).
+     */
     @Transactional
     public CourseResponse updateByProfessor(Long professorUserId, Long courseId, CourseUpdateRequest request) {
         Professor professor = professorRepository.findByUserId(professorUserId)
@@ -112,19 +159,32 @@ public class CourseService {
         if (request.getTitle() != null && !request.getTitle().isBlank()) course.setTitle(request.getTitle());
         if (request.getCategory() != null) course.setCategory(request.getCategory());
         if (request.getCredit() != null) course.setCredit(request.getCredit());
+        int previousCapacity = course.getCapacity();
         if (request.getCapacity() != null) course.setCapacity(request.getCapacity());
         if (request.getTargetGrade() != null) course.setTargetGrade(request.getTargetGrade());
-        if (request.getSchedule() != null && !request.getSchedule().isBlank()) course.setSchedule(request.getSchedule());
+        long previousMask = course.getScheduleMask();
+        if (request.getSchedule() != null && !request.getSchedule().isBlank()) {
+            course.setScheduleMask(TimetableMask.parse(request.getSchedule()));
+            course.setSchedule(request.getSchedule());
+        }
 
-        return toResponse(courseRepository.save(course));
+        course = courseRepository.save(course);
+        if (course.getScheduleMask() != previousMask) studentRepository.recomputeScheduleMasksByCourseId(course.getId());
+        int enrolledBefore = course.getCurrentEnrollment();
+        if (course.getCapacity() > previousCapacity) seatWaitlist.promoteOnCapacityIncrease(course);
+        if (course.getCapacity() != previousCapacity) {
+            // 대기열에서 꺼냈지만 아직 처리 전인 요청이 남은 좌석 수에 잡혀 있으므로 덮어쓰지 않고 증감만 반영 (승격된 인원은 뺌)
+            int promoted = course.getCurrentEnrollment() - enrolledBefore;
+            enrollQueue.adjustSeats(course.getId(), course.getCapacity() - previousCapacity - promoted);
+        }
+        eventPublisher.publishEvent(CourseChangedEvent.course(course.getId()));
+        return toResponse(course);
     }
 
     /** [Professor] 내 강의 목록 조회 */
     @Transactional(readOnly = true)
     public List<CourseResponse> findCoursesByProfessorUserId(Long professorUserId) {
-        Professor professor = professorRepository.findByUserId(professorUserId)
-                .orElseThrow(() -> new IllegalArgumentException("교수 정보를 찾을 수 없습니다."));
-        return courseRepository.findByProfessorId(professor.getId()).stream()
+        return courseRepository.findByProfessorUserId(professorUserId).stream()
                 .map(this::toResponse)
                 .toList();
     }
@@ -140,6 +200,8 @@ public class CourseService {
             throw new IllegalArgumentException("본인 강의만 삭제할 수 있습니다.");
         }
         courseRepository.delete(course);
+        enrollQueue.clearSeats(courseId);
+        eventPublisher.publishEvent(CourseChangedEvent.course(courseId));
     }
 
     private CourseResponse toResponse(Course c) {
@@ -0,0 +1,82 @@
+package org.example.backend.domain.course.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 강의 시간 문자열을 주간 시간표 비트마스크로 변환.
+ * 월~금 × 09~21시를 1시간 칸 60개로 나누어 칸마다 비트 하나 (비트 = 요일 × 12 + (시 - 9)).
+ * 분 단위는 칸 밖으로 넓혀 잡는다 (09:30-10:15 → 9시·10시 칸). 여러 시간대는 쉼표로 구분 (예: 월 09:00-10:00, 수 09:00-10:00).
+ * 두 강의가 겹치는지는 (a & b) != 0 한 번으로 판단한다.
+ */
+public final class TimetableMask {
+
+    public static final int FIRST_HOUR = 9;
+    public static final int LAST_HOUR = 21;
+    private static final int SLOTS_PER_DAY = LAST_HOUR - FIRST_HOUR;
+
+    private static final Map<String, Integer> DAYS = Map.ofEntries(
+            Map.entry("월", 0), Map.entry("화", 1), Map.entry("수", 2), Map.entry("목", 3), Map.entry("금", 4),
+            Map.entry("mon", 0), Map.entry("tue", 1), Map.entry("wed", 2), Map.entry("thu", 3), Map.entry("fri", 4));
+
+    private static final Pattern RANGE =
+            Pattern.compile("^(\\S+)\\s*(\\d{1,2}):(\\d{2})\\s*-\\s*(\\d{1,2}):(\\d{2})$");
+
+    private TimetableMask() {
+    }
+
+    /** 강의 시간 → 비트마스크. 형식이 틀리거나 범위를 벗어나면 IllegalArgumentException */
+    public static long parse(String schedule) {
+        if (schedule == null || schedule.isBlank()) throw invalid();
+        long mask = 0L;
+        for (String part : schedule.split(",")) {
+            mask |= parseRange(part.trim());
+        }
+        return mask;
+    }
+
+    /** 두 시간표가 한 칸이라도 겹치는지 */
+    public static boolean overlaps(long a, long b) {
+        return (a & b) != 0;
+    }
+
+    /** 여러 시간표의 합 */
+    public static long union(Collection<Long> masks) {
+        long mask = 0L;
+        for (Long m : masks) {
+            if (m != null) mask |= m;
+        }
+        return mask;
+    }
+
+    private static long parseRange(String range) {
+        Matcher m = RANGE.matcher(range);
+        if (!m.matches()) throw invalid();
+        Integer day = DAYS.get(m.group(1).toLowerCase());
+        if (day == null) throw invalid();
+        int start = minutes(m.group(2), m.group(3));
+        int end = minutes(m.group(4), m.group(5));
+        if (start >= end || start < FIRST_HOUR * 60 || end > LAST_HOUR * 60) throw invalid();
+
+        int firstSlot = start / 60 - FIRST_HOUR;
+        int lastSlot = (end + 59) / 60 - FIRST_HOUR;
+        long mask = 0L;
+        for (int slot = firstSlot; slot < lastSlot; slot++) {
+            mask |= 1L << (day * SLOTS_PER_DAY + slot);
+        }
+        return mask;
+    }
+
+    private static int minutes(String hour, String minute) {
+        int h = Integer.parseInt(hour);
+        int m = Integer.parseInt(minute);
+        if (h > 24 || m > 59) throw invalid();
+        return h * 60 + m;
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("강의 시간 형식이 올바르지 않습니다. (예: 월 09:00-11:00)");
+    }
+}
@@ -1,11 +1,13 @@
 package org.example.backend.domain.department.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.course.event.CourseChangedEvent;
 import org.example.backend.domain.department.dto.DepartmentCreateRequest;
 import org.example.backend.domain.department.dto.DepartmentResponse;
 import org.example.backend.domain.department.dto.DepartmentUpdateRequest;
 import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.department.repository.DepartmentRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 전체 학과 목록 조회 (모든 사용자) */
     @Transactional(readOnly = true)
@@ -41,7 +44,7 @@ public class DepartmentService {
         return toResponse(department);
     }
 
-    /** [Admin] 학과 정보 수정 */
+    /** [Admin] 학과 정보 수정 (강의 목록의 학과명도 바뀜) */
     @Transactional
     public DepartmentResponse update(Long id, DepartmentUpdateRequest request) {
         Department department = departmentRepository.findById(id)
@@ -55,7 +58,9 @@ public class DepartmentService {
         if (request.getCollege() != null && !request.getCollege().isBlank()) {
             department.setCollege(request.getCollege());
         }
-        return toResponse(departmentRepository.save(department));
+        department = departmentRepository.save(department);
+        eventPublisher.publishEvent(CourseChangedEvent.all());
+        return toResponse(department);
     }
 
     /** [Admin] 학과 삭제 */
@@ -64,6 +69,7 @@ public class DepartmentService {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("학과를 찾을 수 없습니다."));
         departmentRepository.delete(department);
+        eventPublisher.publishEvent(CourseChangedEvent.all());
     }
 
     private DepartmentResponse toResponse(Department d) {
@@ -2,19 +2,25 @@ package org.example.backend.domain.registration.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.registration.dto.EnrollCartRequest;
+import org.example.backend.domain.registration.dto.EnrollCartResponse;
 import org.example.backend.domain.registration.dto.EnrollRequest;
 import org.example.backend.domain.registration.dto.EnrollResult;
 import org.example.backend.domain.registration.dto.EnrollStatusResponse;
 import org.example.backend.domain.registration.dto.EnrollmentResponse;
+import org.example.backend.domain.registration.dto.WaitingPositionResponse;
+import org.example.backend.domain.registration.service.EnrollStreamService;
 import org.example.backend.domain.registration.service.EnrollmentService;
+import org.example.backend.domain.registration.service.SeatWaitlistService;
 import org.example.backend.domain.user.entity.User;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * [Student] 수강신청·취소·내 수강 내역·대기열 조회.
@@ -25,6 +31,8 @@ import java.util.stream.Collectors;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final EnrollStreamService enrollStreamService;
+    private final SeatWaitlistService seatWaitlistService;
 
     /** 수강신청 요청 → 선착순 대기열에 등록. Body: { "courseId": 101 } */
     @PostMapping
@@ -34,6 +42,14 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollmentService.enroll(user.getId(), request.getCourseId()));
     }
 
+    /** 장바구니 수강신청 → 여러 강의 대기열에 한 번에 등록. Body: { "courseIds": [101, 102] } */
+    @PostMapping("/cart")
+    public ResponseEntity<EnrollCartResponse> enrollCart(@AuthenticationPrincipal User user,
+                                                         @Valid @RequestBody EnrollCartRequest request) {
+        if (user == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(enrollmentService.enrollCart(user.getId(), request.getCourseIds()));
+    }
+
     /** 수강신청 상태 조회 (폴링). ?courseId=1 */
     @GetMapping("/status")
     public ResponseEntity<EnrollStatusResponse> getEnrollStatus(@AuthenticationPrincipal User user,
@@ -42,14 +58,22 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollmentService.getEnrollStatus(user.getId(), courseId));
     }
 
-    /** 내 요청 대기 순번 목록. { "positions": [ { "courseId": 1, "position": 2 }, ... ] } */
+    /**
+     * 대기 순번·처리 결과 실시간 수신 (SSE, 폴링 대신 사용).
+     * event: positions → { "positions": [ { "courseId": 1, "position": 2, "etaSeconds": 4 }, ... ] }
+     * event: result → { "courseId": 1, "status": "success" | "full" | "error" }
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal User user) {
+        if (user == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(enrollStreamService.subscribe(user.getId()));
+    }
+
+    /** 내 요청 대기 순번 목록. { "positions": [ { "courseId": 1, "position": 2, "etaSeconds": 4 }, ... ] } */
     @GetMapping("/waiting")
-    public ResponseEntity<Map<String, List<Map<String, Long>>>> getMyWaitingPositions(@AuthenticationPrincipal User user) {
+    public ResponseEntity<Map<String, List<WaitingPositionResponse>>> getMyWaitingPositions(@AuthenticationPrincipal User user) {
         if (user == null) return ResponseEntity.status(401).build();
-        List<Map<String, Long>> positions = enrollmentService.getMyQueuePositions(user.getId()).stream()
-                .map(p -> Map.<String, Long>of("courseId", p.courseId(), "position", p.position()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(Map.of("positions", positions));
+        return ResponseEntity.ok(Map.of("positions", enrollmentService.getMyQueuePositions(user.getId())));
     }
 
     /** 대기열 포기 (요청 큐에서 제거) */
@@ -60,6 +84,29 @@ public class EnrollmentController {
         return ResponseEntity.noContent().build();
     }
 
+    /** 빈자리 대기 등록 (정원이 찬 강의). 자리가 나면 자동 수강신청되고 실시간 알림 result(success)로 알림. Body: { "courseId": 101 } */
+    @PostMapping("/seat-waitlist")
+    public ResponseEntity<WaitingPositionResponse> joinSeatWaitlist(@AuthenticationPrincipal User user,
+                                                                    @Valid @RequestBody EnrollRequest request) {
+        if (user == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(seatWaitlistService.join(user.getId(), request.getCourseId()));
+    }
+
+    /** 내 빈자리 대기 목록. { "positions": [ { "courseId": 1, "position": 3 }, ... ] } */
+    @GetMapping("/seat-waitlist")
+    public ResponseEntity<Map<String, List<WaitingPositionResponse>>> getMySeatWaitlist(@AuthenticationPrincipal User user) {
+        if (user == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(Map.of("positions", seatWaitlistService.getMyWaitlist(user.getId())));
+    }
+
+    /** 빈자리 대기 취소 */
+    @DeleteMapping("/seat-waitlist/{courseId}")
+    public ResponseEntity<Void> leaveSeatWaitlist(@AuthenticationPrincipal User user, @PathVariable Long courseId) {
+        if (user == null) return ResponseEntity.status(401).build();
+        seatWaitlistService.leave(user.getId(), courseId);
+        return ResponseEntity.noContent().build();
+    }
+
     /** 수강신청 취소 */
     @DeleteMapping("/{courseId}")
     public ResponseEntity<Void> cancel(@AuthenticationPrincipal User user, @PathVariable Long courseId) {
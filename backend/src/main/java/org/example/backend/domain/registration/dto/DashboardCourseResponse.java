@@ -0,0 +1,29 @@
+package org.example.backend.domain.registration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수강신청 현황판의 강의 한 줄 (바뀐 줄만 보내기 위해 값으로 비교).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DashboardCourseResponse {
+
+    private Long courseId;
+    private String courseCode;
+    private String title;
+    private Integer capacity;
+    private Integer enrolled;
+    private Long queued;       // 대기열 인원
+    private Double drainRate;  // 초당 처리 인원 (소수 첫째 자리)
+    private Long soldOut;      // 매진으로 대기열 등록 거절
+    private Long full;         // 처리 시 정원 마감
+    private Long error;        // 처리 실패
+}
@@ -0,0 +1,23 @@
+package org.example.backend.domain.registration.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 장바구니 수강신청 요청 DTO (여러 강의 한 번에).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EnrollCartRequest {
+
+    @NotEmpty(message = "강의 ID 목록은 필수입니다.")
+    @Size(max = 20, message = "한 번에 최대 20개 강의까지 신청할 수 있습니다.")
+    private List<@NotNull(message = "강의 ID는 필수입니다.") Long> courseIds;
+}
@@ -0,0 +1,55 @@
+package org.example.backend.domain.registration.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+
+import java.util.List;
+
+/**
+ * 장바구니 수강신청 결과: 강의별 대기열 등록·매진·거절 사유.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollCartResponse {
+
+    private List<CourseResult> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class CourseResult {
+
+        private Long courseId;
+
+        /** 대기열 등록 여부 */
+        private boolean inWaitlist;
+
+        /** 대기 순번 (1부터, 대기열일 때만) */
+        private Long waitingPosition;
+
+        /** 남은 좌석보다 대기 인원이 많아 대기열에 등록하지 않음 */
+        private boolean soldOut;
+
+        /** 신청할 수 없는 강의일 때 사유 */
+        private String message;
+
+        public static CourseResult of(Long courseId, long position) {
+            if (position == EnrollQueue.SOLD_OUT) {
+                return CourseResult.builder().courseId(courseId).soldOut(true).build();
+            }
+            return CourseResult.builder().courseId(courseId).inWaitlist(true).waitingPosition(position).build();
+        }
+
+        public static CourseResult rejected(Long courseId, String message) {
+            return CourseResult.builder().courseId(courseId).message(message).build();
+        }
+    }
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
- * 수강신청 결과: 즉시 신청 성공 또는 대기열 등록.
+ * 수강신청 결과: 즉시 신청 성공, 대기열 등록 또는 매진(대기열 등록 거절).
  */
 @Getter
 @Builder
@@ -25,6 +25,9 @@ public class EnrollResult {
     /** 대기 순번 (1부터, 대기열일 때만) */
     private Long waitingPosition;
 
+    /** 남은 좌석보다 대기 인원이 많아 대기열에 등록하지 않음 */
+    private boolean soldOut;
+
     public static EnrollResult enrolled(EnrollmentResponse enrollment) {
         return EnrollResult.builder()
                 .enrollment(enrollment)
@@ -38,4 +41,11 @@ public class EnrollResult {
                 .waitingPosition(position)
                 .build();
     }
+
+    public static EnrollResult soldOut() {
+        return EnrollResult.builder()
+                .inWaitlist(false)
+                .soldOut(true)
+                .build();
+    }
 }
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 /**
  * 수강신청 상태 (폴링용).
  * - enrolled: 이미 수강 신청됨
- * - pending: 요청 대기열에서 대기 중 (position 있음)
+ * - pending: 요청 대기열에서 대기 중 (position, 처리 속도 측정값이 있으면 etaSeconds)
  * - success: 방금 처리되어 신청 성공
  * - full: 정원 마감으로 실패
  * - error: 기타 실패
@@ -23,4 +23,5 @@ public class EnrollStatusResponse {
 
     private String status;  // enrolled, pending, success, full, error
     private Long position;   // 대기 순번 (pending일 때)
+    private Long etaSeconds; // 예상 대기 시간 (초, pending일 때). 이 간격으로 다시 조회하면 충분
 }
@@ -0,0 +1,22 @@
+package org.example.backend.domain.registration.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 강의별 대기 순번과 예상 대기 시간 (대기 목록·실시간 알림용).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitingPositionResponse {
+
+    private Long courseId;
+    private Long position;
+    private Long etaSeconds;  // 예상 대기 시간 (초, 처리 속도 측정값이 없으면 null)
+}
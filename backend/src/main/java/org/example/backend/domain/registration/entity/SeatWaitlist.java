@@ -0,0 +1,43 @@
+package org.example.backend.domain.registration.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.backend.domain.course.entity.Course;
+import org.example.backend.domain.student.entity.Student;
+
+import java.time.LocalDateTime;
+
+/**
+ * 빈자리 대기 명단 엔티티.
+ * 정원이 찬 강의에 대기를 건 학생. 취소·정원 증가로 자리가 나면 id 순서대로 자동 수강신청된다.
+ */
+@Entity
+@Table(name = "seat_waitlist",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"student_id", "course_id"})},
+        indexes = {@Index(name = "idx_seat_waitlist_course", columnList = "course_id, id")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatWaitlist {
+
+    /** PK (대기 순서) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Student 엔티티 참조 (ManyToOne) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    /** Course 엔티티 참조 (ManyToOne) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private Course course;
+
+    /** 대기 등록 시각 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,7 @@
+package org.example.backend.domain.registration.event;
+
+/**
+ * 수강신청 요청이 대기열에 새로 등록됨 (큐 처리기를 깨우는 신호).
+ */
+public record EnrollQueuedEvent(Long courseId, Long userId) {
+}
@@ -0,0 +1,8 @@
+package org.example.backend.domain.registration.event;
+
+/**
+ * 수강신청 요청이 대기열에 들어가기 전에 거절됨 (reason: sold_out).
+ * 수강신청 현황판(EnrollDashboardService)이 강의별 거절 건수로 센다.
+ */
+public record EnrollRejectedEvent(Long courseId, Long userId, String reason) {
+}
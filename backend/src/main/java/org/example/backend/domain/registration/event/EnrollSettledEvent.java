@@ -0,0 +1,8 @@
+package org.example.backend.domain.registration.event;
+
+/**
+ * 대기열에서 꺼낸 수강신청 요청의 처리 결과가 확정됨 (status: success, full, error).
+ * 트랜잭션 종료 후 발행되며, 실시간 알림(EnrollStreamService)과 수강신청 현황판(EnrollDashboardService)이 구독한다.
+ */
+public record EnrollSettledEvent(Long courseId, Long userId, String status) {
+}
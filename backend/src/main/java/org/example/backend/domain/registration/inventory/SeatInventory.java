@@ -0,0 +1,447 @@
+package org.example.backend.domain.registration.inventory;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.course.event.CourseChangedEvent;
+import org.example.backend.domain.course.repository.CourseRepository;
+import org.example.backend.domain.course.service.TimetableMask;
+import org.example.backend.domain.registration.entity.Registration;
+import org.example.backend.domain.registration.event.EnrollSettledEvent;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.domain.registration.repository.RegistrationRepository;
+import org.example.backend.domain.student.repository.StudentRepository;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 좌석 재고 (enroll.queue.inventory.enabled=true, 단일 서버 전용).
+ * 강의별 남은 좌석과 학생별 남은 학점·시간표를 메모리에 두고 수강신청 가능 여부를 여기서 판단한다 (강의 행 잠금 없음).
+ * 승인된 신청은 버퍼에 쌓였다가 flushIntervalMs마다 한 트랜잭션으로 수강신청 내역·신청 인원·학점에 기록된다 (write-behind).
+ * 값마다 available(지금 더 받을 수 있는 양)과 pending(승인됐지만 아직 DB에 없는 양)을 두어 available + pending = DB 기준 남은 양을 유지하고,
+ * 정합성 검사가 reconcileIntervalMs마다 DB 값과 비교해 어긋난 available을 고친다 (교수의 정원 변경 등).
+ * 시간표는 기록 대기 중인 신청이 없는 학생만 DB 값으로 맞춘다 (교수의 강의 시간 변경 등).
+ * 기록 전에 서버가 죽으면 버퍼의 신청은 사라진다. 강의 목록의 신청 인원·내 수강 내역은 기록 주기만큼 늦게 반영된다.
+ * 이미 success를 알린 신청이 제약 위반으로 기록되지 못하면 결과를 error로 덮어쓰고 EnrollSettledEvent(error)로 다시 알린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "enroll.queue.inventory", name = "enabled", havingValue = "true")
+public class SeatInventory {
+
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollQueue enrollQueue;
+    private final EnrollQueueProperties.Inventory config;
+
+    /** 강의 ID → 남은 좌석 */
+    private final Map<Long, Slot> seats = new ConcurrentHashMap<>();
+    /** 학생 ID → 남은 학점 (mask: 신청한 강의 시간표, 기록 대기분 포함) */
+    private final Map<Long, Slot> credits = new ConcurrentHashMap<>();
+    /** 승인됐지만 아직 기록되지 않은 (학생, 강의). 중복 신청 검사용 */
+    private final Set<StudentCourse> unwritten = ConcurrentHashMap.newKeySet();
+    private final Deque<Admission> buffer = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock[] stripes;
+    /** 기록·정합성 검사·취소를 직렬화 (DB 값과 pending이 함께 바뀌는 구간) */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SeatInventory(CourseRepository courseRepository, StudentRepository studentRepository,
+                         RegistrationRepository registrationRepository, TransactionTemplate transactionTemplate,
+                         ApplicationEventPublisher eventPublisher, EnrollQueue enrollQueue,
+                         EnrollQueueProperties properties) {
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+        this.registrationRepository = registrationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enrollQueue = enrollQueue;
+        this.config = properties.getInventory();
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, config.getStripes()))];
+        for (int i = 0; i < stripes.length; i++) stripes[i] = new ReentrantLock();
+    }
+
+    /**
+     * 수강신청 승인 (학점·시간표 → 좌석 순으로 예약 후 기록 버퍼에 추가). 거절 사유는 DB 경로와 같은 메시지의 IllegalArgumentException.
+     */
+    public void admit(Long studentUserId, Long courseId) {
+        StudentRepository.AdmissionView student = studentRepository.findAdmissionViewByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        CourseRepository.AdmissionView course = courseRepository.findAdmissionViewById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
+        if (!course.getTargetGrade().equals(student.getGrade())) {
+            throw new IllegalArgumentException("대상 학년이 아닙니다.");
+        }
+
+        StudentCourse key = new StudentCourse(student.getId(), courseId);
+        if (!unwritten.add(key)) throw new IllegalArgumentException("이미 수강신청한 강의입니다.");
+        boolean admitted = false;
+        try {
+            if (registrationRepository.existsByStudentIdAndCourseId(student.getId(), courseId)) {
+                throw new IllegalArgumentException("이미 수강신청한 강의입니다.");
+            }
+            String rejected = reserveStudent(student.getId(), course.getCredit(), course.getScheduleMask());
+            if (rejected != null) throw new IllegalArgumentException(rejected);
+            if (!reserve(seats, courseId, 1, this::loadSeats)) {
+                unreserveStudent(student.getId(), course.getCredit(), course.getScheduleMask());
+                throw new IllegalArgumentException("수강 정원이 마감되었습니다.");
+            }
+            buffer.add(new Admission(studentUserId, student.getId(), courseId, course.getCredit(),
+                    course.getScheduleMask(), LocalDateTime.now()));
+            admitted = true;
+        } finally {
+            if (!admitted) unwritten.remove(key);
+        }
+    }
+
+    /** 지금 받을 수 있는 좌석 수 (대기열에서 꺼낼 인원 결정용) */
+    public int remainingSeats(Long courseId) {
+        Slot slot = slot(seats, courseId, this::loadSeats);
+        ReentrantLock lock = stripe(courseId);
+        lock.lock();
+        try {
+            return slot.available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 수강신청 취소. 버퍼를 먼저 기록해 취소할 내역이 DB에 있게 하고, dbCancel이 성공하면 좌석·학점을 돌려놓는다.
+     * dbCancel은 실제로 줄어든 강의 인원을 돌려주며, 0이면 좌석은 돌려놓지 않는다 (없던 빈자리로 승격되지 않게).
+     * 기록·정합성 검사와 겹치지 않게 실행한다.
+     */
+    public void cancel(Long studentUserId, Long courseId, IntSupplier dbCancel) {
+        flushLock.lock();
+        try {
+            flush();
+            StudentRepository.AdmissionView student = studentRepository.findAdmissionViewByUserId(studentUserId)
+                    .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+            CourseRepository.AdmissionView course = courseRepository.findAdmissionViewById(courseId)
+                    .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
+            int freed = dbCancel.getAsInt();
+            if (freed > 0) giveBack(seats, courseId, freed);
+            giveBack(credits, student.getId(), course.getCredit());
+            freeTimetable(student.getId(), course.getScheduleMask());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 강의 값을 DB에서 다시 읽어 맞춤 (정원 변경 직후) */
+    public void refresh(Long courseId) {
+        flushLock.lock();
+        try {
+            if (!seats.containsKey(courseId)) return;
+            courseRepository.findById(courseId).ifPresent(c ->
+                    correct("course", seats, c.getId(), c.getCapacity() - c.getCurrentEnrollment()));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 버퍼에 쌓인 신청을 flushBatch건씩 기록. 실패하면 다음 주기에 다시 시도 */
+    @Scheduled(fixedDelayString = "${enroll.queue.inventory.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Admission> batch;
+            while (!(batch = drain(config.getFlushBatch())).isEmpty()) {
+                if (!write(batch)) return;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 메모리 값을 DB 값 - 기록 대기량으로 맞춤 */
+    @Scheduled(fixedDelayString = "${enroll.queue.inventory.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            courseRepository.findAllById(seats.keySet()).forEach(c ->
+                    correct("course", seats, c.getId(), c.getCapacity() - c.getCurrentEnrollment()));
+            studentRepository.findAllById(credits.keySet()).forEach(s -> {
+                correct("student", credits, s.getId(), s.getMaxCredits() - s.getCurrentCredits());
+                correctTimetable(s.getId(), s.getScheduleMask());
+            });
+        } catch (Exception e) {
+            log.warn("Seat inventory reconcile skip: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+        if (!buffer.isEmpty()) log.error("Seat inventory closed with {} unwritten admissions", buffer.size());
+    }
+
+    /** 한 트랜잭션으로 기록. 제약 위반이면 한 건씩 다시 기록해 문제 건만 버리고, 그 외 실패는 버퍼 앞에 되돌림 */
+    private boolean write(List<Admission> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            batch.forEach(this::written);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < batch.size(); i++) {
+                Admission a = batch.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(a)));
+                    written(a);
+                } catch (DataIntegrityViolationException ex) {
+                    log.error("Seat inventory dropped admission student={} course={}: {}",
+                            a.studentId(), a.courseId(), ex.getMostSpecificCause().getMessage());
+                    unreserve(seats, a.courseId(), 1);
+                    unreserveStudent(a.studentId(), a.credit(), a.mask());
+                    unwritten.remove(new StudentCourse(a.studentId(), a.courseId()));
+                    lost(a);
+                } catch (Exception ex) {
+                    requeue(batch.subList(i, batch.size()), ex);
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            requeue(batch, e);
+            return false;
+        }
+    }
+
+    /** 이미 success로 알린 신청이 기록되지 못함: 폴링용 결과를 error로 덮어쓰고 실시간 알림에도 다시 알림 */
+    private void lost(Admission a) {
+        try {
+            enrollQueue.setResult(a.userId(), a.courseId(), "error");
+        } catch (Exception e) {
+            log.warn("Seat inventory result overwrite failed user={} course={}: {}", a.userId(), a.courseId(), e.getMessage());
+        }
+        eventPublisher.publishEvent(new EnrollSettledEvent(a.courseId(), a.userId(), "error"));
+    }
+
+    private void persist(List<Admission> batch) {
+        registrationRepository.saveAll(batch.stream()
+                .map(a -> Registration.builder()
+                        .student(studentRepository.getReferenceById(a.studentId()))
+                        .course(courseRepository.getReferenceById(a.courseId()))
+                        .createdAt(a.admittedAt())
+                        .build())
+                .toList());
+        batch.stream()
+                .collect(Collectors.groupingBy(Admission::courseId, Collectors.summingInt(a -> 1)))
+                .forEach((courseId, count) -> {
+                    courseRepository.addEnrollment(courseId, count);
+                    eventPublisher.publishEvent(CourseChangedEvent.enrollment(courseId, count));
+                });
+        batch.stream()
+                .collect(Collectors.groupingBy(Admission::studentId))
+                .forEach((studentId, admissions) -> studentRepository.addCredits(studentId,
+                        admissions.stream().mapToInt(Admission::credit).sum(),
+                        admissions.stream().mapToLong(Admission::mask).reduce(0L, (a, b) -> a | b)));
+    }
+
+    private void requeue(List<Admission> rest, Exception cause) {
+        log.warn("Seat inventory flush failed, {} admissions retried later: {}", rest.size(), cause.getMessage());
+        for (int i = rest.size() - 1; i >= 0; i--) buffer.addFirst(rest.get(i));
+    }
+
+    private List<Admission> drain(int max) {
+        List<Admission> batch = new ArrayList<>();
+        Admission a;
+        while (batch.size() < max && (a = buffer.poll()) != null) batch.add(a);
+        return batch;
+    }
+
+    /** 기록 완료: DB가 반영했으므로 pending만 줄임 */
+    private void written(Admission a) {
+        settle(seats, a.courseId(), 1);
+        settle(credits, a.studentId(), a.credit());
+        unwritten.remove(new StudentCourse(a.studentId(), a.courseId()));
+    }
+
+    private boolean reserve(Map<Long, Slot> slots, long id, int amount, LongFunction<Slot> loader) {
+        Slot slot = slot(slots, id, loader);
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            if (slot.available < amount) return false;
+            slot.available -= amount;
+            slot.pending += amount;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 학생의 학점·시간표 예약. 거절 사유 메시지, 승인이면 null */
+    private String reserveStudent(long studentId, int credit, long mask) {
+        Slot slot = slot(credits, studentId, this::loadCredits);
+        ReentrantLock lock = stripe(studentId);
+        lock.lock();
+        try {
+            if (TimetableMask.overlaps(slot.mask, mask)) return "수강 시간이 겹치는 강의가 있습니다.";
+            if (slot.available < credit) return "신청 가능한 최대 학점을 초과합니다.";
+            slot.available -= credit;
+            slot.pending += credit;
+            slot.mask |= mask;
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unreserveStudent(long studentId, int credit, long mask) {
+        unreserve(credits, studentId, credit);
+        freeTimetable(studentId, mask);
+    }
+
+    /** 시간표에서 강의 칸을 비움 (신청 강의끼리는 겹치지 않으므로 다른 강의 칸은 남음) */
+    private void freeTimetable(long studentId, long mask) {
+        Slot slot = credits.get(studentId);
+        if (slot == null) return;
+        ReentrantLock lock = stripe(studentId);
+        lock.lock();
+        try {
+            slot.mask &= ~mask;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 기록 대기 중인 신청이 없을 때만 시간표를 DB 값으로 맞춤 */
+    private void correctTimetable(long studentId, long dbMask) {
+        Slot slot = credits.get(studentId);
+        ReentrantLock lock = stripe(studentId);
+        lock.lock();
+        try {
+            if (slot.pending == 0 && slot.mask != dbMask) {
+                log.warn("Seat inventory drift timetable={}: memory={} db={}", studentId, slot.mask, dbMask);
+                slot.mask = dbMask;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 기록되지 못한 예약 되돌림 */
+    private void unreserve(Map<Long, Slot> slots, long id, int amount) {
+        update(slots, id, amount, -amount);
+    }
+
+    private void settle(Map<Long, Slot> slots, long id, int amount) {
+        update(slots, id, 0, -amount);
+    }
+
+    /** 취소로 DB에서 빠진 양을 되돌림 (아직 읽지 않은 값이면 나중에 DB에서 읽음) */
+    private void giveBack(Map<Long, Slot> slots, long id, int amount) {
+        update(slots, id, amount, 0);
+    }
+
+    private void update(Map<Long, Slot> slots, long id, int availableDelta, int pendingDelta) {
+        Slot slot = slots.get(id);
+        if (slot == null) return;
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            slot.available += availableDelta;
+            slot.pending += pendingDelta;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void correct(String kind, Map<Long, Slot> slots, long id, int dbAvailable) {
+        Slot slot = slots.get(id);
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            int expected = dbAvailable - slot.pending;
+            if (slot.available != expected) {
+                log.warn("Seat inventory drift {}={}: memory={} db={}", kind, id, slot.available, expected);
+                slot.available = expected;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메모리 값, 없으면 DB에서 읽어 넣음.
+     * 읽기와 넣기를 모두 flushLock 안에서 해, 그 사이에 취소(giveBack)가 빈 슬롯을 보고 지나가 돌려준 양을 잃지 않게 한다.
+     * computeIfAbsent 안에서 읽으면 맵 잠금(synchronized)을 쥔 채 DB를 기다려 가상 스레드가 캐리어에 고정되므로 쓰지 않는다.
+     */
+    private Slot slot(Map<Long, Slot> slots, long id, LongFunction<Slot> loader) {
+        Slot slot = slots.get(id);
+        if (slot != null) return slot;
+        flushLock.lock();
+        try {
+            slot = slots.get(id);
+            if (slot == null) {
+                slot = loader.apply(id);
+                slots.put(id, slot);
+            }
+            return slot;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** DB에서 처음 읽음 (slot에서 flushLock을 쥔 채 호출) */
+    private Slot loadSeats(long courseId) {
+        return new Slot(courseRepository.findById(courseId)
+                .map(c -> c.getCapacity() - c.getCurrentEnrollment())
+                .orElse(0));
+    }
+
+    private Slot loadCredits(long studentId) {
+        return studentRepository.findById(studentId)
+                .map(s -> new Slot(s.getMaxCredits() - s.getCurrentCredits(), s.getScheduleMask()))
+                .orElseGet(() -> new Slot(0));
+    }
+
+    private ReentrantLock stripe(long id) {
+        return stripes[(int) (id ^ (id >>> 32)) & (stripes.length - 1)];
+    }
+
+    /** 남은 양 (학생이면 시간표도). 필드는 stripe 잠금 보호 */
+    private static final class Slot {
+        int available;
+        int pending;
+        long mask;
+
+        Slot(int available) {
+            this(available, 0L);
+        }
+
+        Slot(int available, long mask) {
+            this.available = available;
+            this.mask = mask;
+        }
+    }
+
+    private record StudentCourse(long studentId, long courseId) {
+    }
+
+    private record Admission(long userId, long studentId, long courseId, int credit, long mask,
+                             LocalDateTime admittedAt) {
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.backend.domain.registration.queue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 선착순 수강신청 요청 대기열.
+ * 신청 요청을 강의별 큐에 넣고, 큐 처리기가 순서대로 꺼내 처리한다.
+ * 구현은 enroll.queue.backend 설정으로 선택 (redis: RedisEnrollQueue, redis_reactive: ReactiveRedisEnrollQueue,
+ * memory: InMemoryEnrollQueue).
+ */
+public interface EnrollQueue {
+
+    /** enqueue 결과: 남은 좌석이 없어 대기열 등록 거절 */
+    long SOLD_OUT = -1;
+
+    /**
+     * 요청을 큐에 넣음. 이미 있으면 기존 순번 반환.
+     * 대기 인원이 남은 좌석 + overbooking 이상이면 넣지 않고 SOLD_OUT 반환.
+     * remainingSeats는 좌석 미러가 아직 없을 때의 초기값 (DB 기준 정원 - 현재 인원).
+     */
+    long enqueue(Long courseId, Long userId, int remainingSeats);
+
+    /**
+     * 여러 강의 대기열에 한 번에 등록 (장바구니 신청). remainingSeats: 강의 ID → 남은 좌석 초기값.
+     * 강의 ID → 순번 (매진이면 SOLD_OUT)을 입력 순서대로 반환.
+     */
+    default Map<Long, Long> enqueueAll(Long userId, Map<Long, Integer> remainingSeats) {
+        Map<Long, Long> positions = new LinkedHashMap<>();
+        remainingSeats.forEach((courseId, seats) -> positions.put(courseId, enqueue(courseId, userId, seats)));
+        return positions;
+    }
+
+    /** 큐에서 순번 (1부터). 없으면 0 */
+    long getPosition(Long courseId, Long userId);
+
+    /** 한 강의에서 여러 사용자의 순번 (실시간 알림 주기용). 사용자 ID → 순번, 대기 중이 아니면 0 */
+    default Map<Long, Long> getPositions(Long courseId, Collection<Long> userIds) {
+        Map<Long, Long> positions = new HashMap<>();
+        for (Long userId : userIds) positions.put(userId, getPosition(courseId, userId));
+        return positions;
+    }
+
+    /** 큐에서 한 명 꺼냄. 없으면 null. */
+    default Long popOne(Long courseId) {
+        List<Long> popped = popMany(courseId, 1);
+        return popped.isEmpty() ? null : popped.get(0);
+    }
+
+    /** 큐 앞에서 최대 count명을 한 번에 꺼냄 (일괄 처리용). 꺼낸 인원만큼 남은 좌석 미러를 미리 차감. 없으면 빈 목록 */
+    List<Long> popMany(Long courseId, int count);
+
+    /** 남은 좌석 미러를 DB 값(정원 - 현재 인원)으로 맞춤 (처리 커밋·취소·정원 변경 후) */
+    void syncSeats(Long courseId, int remainingSeats);
+
+    /** 남은 좌석 미러 증감 (꺼냈지만 신청되지 않은 인원 반환 등). 미러가 없으면 무시 */
+    void adjustSeats(Long courseId, int delta);
+
+    /** 남은 좌석 미러 삭제 (강의 삭제 시) */
+    void clearSeats(Long courseId);
+
+    /** 처리 결과 저장 (폴링 시 한 번 읽고 삭제) */
+    void setResult(Long userId, Long courseId, String status);
+
+    /** 결과 조회 (삭제하지 않음. 전달을 확인한 뒤 getAndClearResult로 지울 때) */
+    String getResult(Long userId, Long courseId);
+
+    /** 결과 조회 후 삭제 (한 번만 반환) */
+    String getAndClearResult(Long userId, Long courseId);
+
+    /** 큐에서 사용자 제거 (대기열 포기) */
+    void removeFromQueue(Long courseId, Long userId);
+
+    /** 큐에 대기 중인 강의 ID 목록 */
+    List<Long> getMyQueuedCourseIds(Long userId);
+
+    /** (강의 ID, 순번) 목록 */
+    default List<QueuePosition> getMyQueuePositions(Long userId) {
+        List<QueuePosition> result = new ArrayList<>();
+        for (Long courseId : getMyQueuedCourseIds(userId)) {
+            long pos = getPosition(courseId, userId);
+            if (pos > 0) result.add(new QueuePosition(courseId, pos));
+        }
+        return result;
+    }
+
+    /** 강의 대기 인원 (지표용) */
+    long getQueueSize(Long courseId);
+
+    /** 처리할 큐가 있는 강의 ID 목록 (큐 처리기용) */
+    Set<Long> getActiveCourseIds();
+
+    record QueuePosition(long courseId, long position) {}
+}
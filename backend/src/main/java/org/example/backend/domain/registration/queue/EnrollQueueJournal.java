@@ -0,0 +1,316 @@
+package org.example.backend.domain.registration.queue;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 대기열(InMemoryEnrollQueue)의 append-only 저널 (memory-mapped 파일, enroll.queue.journal.enabled=true).
+ * 등록·꺼내기·포기·결과를 32바이트 고정 길이 레코드로 기록하고, 재시작 시 재생해 대기 순서와 미처리 결과를 복구한다.
+ * fsync는 flusher 스레드가 쌓인 레코드를 한 번에 반영한다 (group commit). syncCommit이면 기록한 쪽이 반영까지 기다린다.
+ * 파일이 가득 차면 현재 상태 스냅샷으로 새 파일을 만들어 교체한다. 재생은 같은 레코드가 중복돼도 결과가 같도록 처리한다.
+ * MEMORY 백엔드에서만 만들어진다. Redis 백엔드는 대기열이 Redis에 있어 이 저널로 보호되지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${enroll.queue.journal.enabled:false} and '${enroll.queue.backend:redis}'.equalsIgnoreCase('memory')")
+public class EnrollQueueJournal {
+
+    private static final long MAGIC = 0x454E524C4A524E4CL; // "ENRLJRNL"
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 32;
+    private static final List<String> STATUSES = List.of("success", "full", "error");
+
+    private final EnrollQueueProperties.Journal config;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dirty = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+
+    // 아래 필드는 lock 보호
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePos;
+    private int forcedPos;
+    private long generation;
+    private Supplier<List<JournalRecord>> snapshotSupplier;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public EnrollQueueJournal(EnrollQueueProperties properties) {
+        this.config = properties.getJournal();
+    }
+
+    /**
+     * 저널을 열어 기존 레코드를 순서대로 replay에 넘긴 뒤, snapshot으로 새 파일을 써서 시작한다.
+     * 잘린(torn) 마지막 레코드는 체크섬으로 걸러낸다.
+     */
+    public void open(Consumer<JournalRecord> replay, Supplier<List<JournalRecord>> snapshot) {
+        Path path = Path.of(config.getPath());
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            if (Files.exists(path)) {
+                int replayed = replayFile(path, replay);
+                log.info("Enroll queue journal replayed {} records from {}", replayed, path);
+            }
+            lock.lock();
+            try {
+                snapshotSupplier = snapshot;
+                rewrite(snapshot.get());
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대기열 저널을 열 수 없습니다: " + path, e);
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("enroll-journal-flusher").daemon().start(this::flushLoop);
+    }
+
+    /** 레코드 추가. syncCommit이면 디스크 반영(group commit)까지 대기 */
+    public void append(JournalRecord record) {
+        lock.lock();
+        try {
+            if (writePos + RECORD_SIZE > buffer.capacity()) {
+                rewrite(snapshotSupplier.get());
+                return; // 스냅샷에 이미 반영된 상태 (변경 후 기록하므로)
+            }
+            buffer.put(writePos, encode(record));
+            writePos += RECORD_SIZE;
+            dirty.signal();
+            if (!config.isSyncCommit()) return;
+            long gen = generation;
+            int end = writePos;
+            while (running && gen == generation && forcedPos < end) {
+                flushed.awaitUninterruptibly();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대기열 저널 기록 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        lock.lock();
+        try {
+            dirty.signalAll();
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        Thread t = flusher;
+        if (t != null) {
+            try {
+                t.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            if (buffer != null) buffer.force();
+            if (channel != null) channel.close();
+        } catch (IOException e) {
+            log.warn("Enroll queue journal close failed: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 쌓인 레코드를 모아 fsync. syncCommit이 아니면 flushIntervalMs마다 한 번 */
+    private void flushLoop() {
+        while (running) {
+            MappedByteBuffer target;
+            int from;
+            int to;
+            long gen;
+            lock.lock();
+            try {
+                while (running && writePos == forcedPos) {
+                    dirty.await(100, TimeUnit.MILLISECONDS);
+                }
+                target = buffer;
+                from = forcedPos;
+                to = writePos;
+                gen = generation;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            if (to > from) target.force(from, to - from);
+            lock.lock();
+            try {
+                if (gen == generation && to > forcedPos) forcedPos = to;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (!config.isSyncCommit()) {
+                try {
+                    Thread.sleep(config.getFlushIntervalMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /** 스냅샷 레코드로 새 파일을 써서 교체 (lock 보유 상태에서 호출) */
+    private void rewrite(List<JournalRecord> snapshot) throws IOException {
+        long size = (long) config.getSizeMb() * 1024 * 1024;
+        if (HEADER_SIZE + (long) snapshot.size() * RECORD_SIZE > size) {
+            throw new IllegalStateException("대기열 저널 크기가 현재 상태보다 작습니다. enroll.queue.journal.size-mb를 늘려 주세요.");
+        }
+        Path path = Path.of(config.getPath());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(tmp);
+        FileChannel next = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer nextBuffer = next.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        nextBuffer.putLong(0, MAGIC);
+        int pos = HEADER_SIZE;
+        for (JournalRecord record : snapshot) {
+            nextBuffer.put(pos, encode(record));
+            pos += RECORD_SIZE;
+        }
+        nextBuffer.force();
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        if (channel != null) channel.close();
+        channel = next;
+        buffer = nextBuffer;
+        writePos = pos;
+        forcedPos = pos;
+        generation++;
+        flushed.signalAll();
+    }
+
+    private int replayFile(Path path, Consumer<JournalRecord> replay) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer in = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (in.capacity() < HEADER_SIZE || in.getLong(0) != MAGIC) {
+                log.warn("Enroll queue journal {} has no valid header, ignored", path);
+                return 0;
+            }
+            int count = 0;
+            byte[] raw = new byte[RECORD_SIZE];
+            for (int pos = HEADER_SIZE; pos + RECORD_SIZE <= in.capacity(); pos += RECORD_SIZE) {
+                in.get(pos, raw);
+                JournalRecord record = decode(raw);
+                if (record == null) break;
+                replay.accept(record);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 레코드 형식 (32바이트, big-endian):
+     * [0] type, [1] status, [2..3] 예약, [4..7] CRC32C([0..3] + [8..31]), [8] courseId, [16] userId, [24] value
+     */
+    private static byte[] encode(JournalRecord r) {
+        ByteBuffer b = ByteBuffer.allocate(RECORD_SIZE);
+        b.put(0, (byte) (r.type().ordinal() + 1));
+        b.put(1, (byte) (r.status() != null ? statusCode(r.status()) : 0));
+        b.putLong(8, r.courseId());
+        b.putLong(16, r.userId());
+        b.putLong(24, r.value());
+        b.putInt(4, checksum(b.array()));
+        return b.array();
+    }
+
+    private static JournalRecord decode(byte[] raw) {
+        ByteBuffer b = ByteBuffer.wrap(raw);
+        int type = b.get(0);
+        if (type <= 0 || type > JournalRecord.Type.values().length) return null;
+        if (b.getInt(4) != checksum(raw)) return null;
+        int status = b.get(1);
+        return new JournalRecord(
+                JournalRecord.Type.values()[type - 1],
+                b.getLong(8), b.getLong(16), b.getLong(24),
+                status > 0 && status <= STATUSES.size() ? STATUSES.get(status - 1) : null);
+    }
+
+    private static int checksum(byte[] raw) {
+        CRC32C crc = new CRC32C();
+        crc.update(raw, 0, 4);
+        crc.update(raw, 8, RECORD_SIZE - 8);
+        return (int) crc.getValue();
+    }
+
+    private static int statusCode(String status) {
+        int idx = STATUSES.indexOf(status);
+        return idx >= 0 ? idx + 1 : STATUSES.indexOf("error") + 1;
+    }
+
+    /**
+     * 저널 레코드. value는 종류별로 번호표(ENQUEUE, POP, HEAD) 또는 만료 시각 epoch ms(RESULT).
+     */
+    public record JournalRecord(Type type, long courseId, long userId, long value, String status) {
+
+        public enum Type {
+            /** 대기열 등록 (value=번호표) */
+            ENQUEUE,
+            /** 처리를 위해 꺼냄 (value=번호표) */
+            POP,
+            /** 대기열 포기 */
+            LEAVE,
+            /** 처리 결과 (value=만료 시각, status) */
+            RESULT,
+            /** 결과를 읽어 삭제함 */
+            RESULT_CLEAR,
+            /** 마지막으로 꺼낸 번호표 (스냅샷용, value=번호표) */
+            HEAD
+        }
+
+        public static JournalRecord enqueue(long courseId, long userId, long ticket) {
+            return new JournalRecord(Type.ENQUEUE, courseId, userId, ticket, null);
+        }
+
+        public static JournalRecord pop(long courseId, long userId, long ticket) {
+            return new JournalRecord(Type.POP, courseId, userId, ticket, null);
+        }
+
+        public static JournalRecord leave(long courseId, long userId) {
+            return new JournalRecord(Type.LEAVE, courseId, userId, 0, null);
+        }
+
+        public static JournalRecord result(long courseId, long userId, String status, long expiresAt) {
+            return new JournalRecord(Type.RESULT, courseId, userId, expiresAt, status);
+        }
+
+        public static JournalRecord resultClear(long courseId, long userId) {
+            return new JournalRecord(Type.RESULT_CLEAR, courseId, userId, 0, null);
+        }
+
+        public static JournalRecord head(long courseId, long ticket) {
+            return new JournalRecord(Type.HEAD, courseId, 0, ticket, null);
+        }
+    }
+}
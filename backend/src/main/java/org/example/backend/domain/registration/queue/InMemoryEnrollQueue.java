@@ -0,0 +1,313 @@
+package org.example.backend.domain.registration.queue;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.registration.event.EnrollQueuedEvent;
+import org.example.backend.domain.registration.queue.EnrollQueueJournal.JournalRecord;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 수강신청 요청 대기열 (프로세스 메모리, enroll.queue.backend=memory).
+ * Redis 없이 단일 서버로 운영하거나 테스트·벤치마크할 때 사용한다. 저널을 켜지 않으면 서버 재시작 시 대기열은 사라진다.
+ * 강의별로 lock-free 큐(ConcurrentLinkedQueue)와 번호표 맵을 두고, RedisEnrollQueue와 같은 번호표·좌석 규칙을 따른다.
+ * 저널(EnrollQueueJournal)을 켜면 모든 변경을 기록하고, 시작 시 재생해 대기 순서·처리 결과를 복구한다.
+ * 꺼냈지만 결과가 기록되지 않은 요청(처리 도중 종료)은 원래 번호표로 큐 맨 앞에 되돌린다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "enroll.queue", name = "backend", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryEnrollQueue implements EnrollQueue {
+
+    private static final Duration RESULT_TTL = Duration.ofSeconds(300);
+    private static final int SEATS_UNSET = Integer.MIN_VALUE;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollQueueProperties properties;
+    private final Optional<EnrollQueueJournal> journal;
+
+    private final Map<Long, CourseQueue> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> userQueues = new ConcurrentHashMap<>();
+    private final Map<UserCourse, TimedResult> results = new ConcurrentHashMap<>();
+    /** 꺼냈지만 아직 결과가 없는 요청 → 번호표 (저널 스냅샷·복구용) */
+    private final Map<UserCourse, Long> inflight = new ConcurrentHashMap<>();
+
+    /** 저널이 있으면 재생해 상태를 복구하고, 복구된 상태로 저널을 새로 씀 */
+    @PostConstruct
+    public void recover() {
+        journal.ifPresent(j -> {
+            j.open(this::replay, this::snapshot);
+            requeueInflight();
+            rebuildEntries();
+        });
+    }
+
+    @Override
+    public long enqueue(Long courseId, Long userId, int remainingSeats) {
+        CourseQueue q = queue(courseId);
+        Long existing = q.tickets.get(userId);
+        if (existing != null) return existing - q.head.get();
+
+        q.seats.compareAndSet(SEATS_UNSET, remainingSeats);
+        if (!q.tryReserveWaitingSlot(properties.getOverbooking())) return SOLD_OUT;
+
+        long ticket = q.seq.incrementAndGet();
+        Long prev = q.tickets.putIfAbsent(userId, ticket);
+        if (prev != null) {
+            q.waiting.decrementAndGet();
+            return prev - q.head.get();
+        }
+        // 처리기가 항목을 꺼내며 지우기 전에 먼저 등록 (순서가 바뀌면 꺼낸 뒤 남는 사용자별 대기 강의가 생김)
+        addUserQueue(userId, courseId);
+        q.entries.add(new Entry(userId, ticket));
+        journal.ifPresent(j -> j.append(JournalRecord.enqueue(courseId, userId, ticket)));
+        eventPublisher.publishEvent(new EnrollQueuedEvent(courseId, userId));
+        return ticket - q.head.get();
+    }
+
+    @Override
+    public long getPosition(Long courseId, Long userId) {
+        CourseQueue q = queues.get(courseId);
+        if (q == null) return 0;
+        Long ticket = q.tickets.get(userId);
+        return ticket != null ? ticket - q.head.get() : 0;
+    }
+
+    @Override
+    public List<Long> popMany(Long courseId, int count) {
+        CourseQueue q = queues.get(courseId);
+        if (q == null) return List.of();
+        List<Long> popped = new ArrayList<>();
+        Entry entry;
+        while (popped.size() < count && (entry = q.entries.poll()) != null) {
+            // 포기(leave)했거나 다시 등록해 번호표가 바뀐 항목은 건너뜀
+            if (!q.tickets.remove(entry.userId(), entry.ticket())) continue;
+            q.waiting.decrementAndGet();
+            q.head.accumulateAndGet(entry.ticket(), Math::max);
+            removeUserQueue(entry.userId(), courseId);
+            popped.add(entry.userId());
+            if (journal.isPresent()) {
+                inflight.put(new UserCourse(entry.userId(), courseId), entry.ticket());
+                journal.get().append(JournalRecord.pop(courseId, entry.userId(), entry.ticket()));
+            }
+        }
+        if (!popped.isEmpty()) adjustSeats(courseId, -popped.size());
+        return popped;
+    }
+
+    @Override
+    public void syncSeats(Long courseId, int remainingSeats) {
+        queue(courseId).seats.set(remainingSeats);
+    }
+
+    @Override
+    public void adjustSeats(Long courseId, int delta) {
+        CourseQueue q = queues.get(courseId);
+        if (q != null) q.seats.updateAndGet(v -> v == SEATS_UNSET ? v : v + delta);
+    }
+
+    @Override
+    public void clearSeats(Long courseId) {
+        CourseQueue q = queues.get(courseId);
+        if (q != null) q.seats.set(SEATS_UNSET);
+    }
+
+    @Override
+    public void setResult(Long userId, Long courseId, String status) {
+        long expiresAt = System.currentTimeMillis() + RESULT_TTL.toMillis();
+        UserCourse key = new UserCourse(userId, courseId);
+        results.put(key, new TimedResult(status, expiresAt));
+        if (journal.isPresent()) {
+            inflight.remove(key);
+            journal.get().append(JournalRecord.result(courseId, userId, status, expiresAt));
+        }
+    }
+
+    @Override
+    public String getResult(Long userId, Long courseId) {
+        TimedResult r = results.get(new UserCourse(userId, courseId));
+        return r == null || r.isExpired(System.currentTimeMillis()) ? null : r.status();
+    }
+
+    @Override
+    public String getAndClearResult(Long userId, Long courseId) {
+        TimedResult r = results.remove(new UserCourse(userId, courseId));
+        if (r == null) return null;
+        journal.ifPresent(j -> j.append(JournalRecord.resultClear(courseId, userId)));
+        if (r.isExpired(System.currentTimeMillis())) return null;
+        return r.status();
+    }
+
+    @Override
+    public void removeFromQueue(Long courseId, Long userId) {
+        CourseQueue q = queues.get(courseId);
+        if (q == null) return;
+        // 큐 항목은 그대로 두고 pop 때 건너뜀 (O(1))
+        if (q.tickets.remove(userId) != null) {
+            q.waiting.decrementAndGet();
+            journal.ifPresent(j -> j.append(JournalRecord.leave(courseId, userId)));
+        }
+        removeUserQueue(userId, courseId);
+    }
+
+    @Override
+    public List<Long> getMyQueuedCourseIds(Long userId) {
+        Set<Long> set = userQueues.get(userId);
+        return set != null ? List.copyOf(set) : List.of();
+    }
+
+    @Override
+    public long getQueueSize(Long courseId) {
+        CourseQueue q = queues.get(courseId);
+        return q != null ? q.waiting.get() : 0;
+    }
+
+    @Override
+    public Set<Long> getActiveCourseIds() {
+        return queues.entrySet().stream()
+                .filter(e -> e.getValue().waiting.get() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /** 만료된 처리 결과 정리 (읽지 않고 방치된 결과) */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredResults() {
+        long now = System.currentTimeMillis();
+        results.values().removeIf(r -> r.isExpired(now));
+    }
+
+    private CourseQueue queue(Long courseId) {
+        return queues.computeIfAbsent(courseId, k -> new CourseQueue());
+    }
+
+    private void addUserQueue(Long userId, Long courseId) {
+        userQueues.compute(userId, (k, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            set.add(courseId);
+            return set;
+        });
+    }
+
+    private void removeUserQueue(Long userId, Long courseId) {
+        userQueues.computeIfPresent(userId, (k, set) -> {
+            set.remove(courseId);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /** 저널 레코드 재생 (같은 레코드가 중복돼도 결과가 같음) */
+    private void replay(JournalRecord r) {
+        CourseQueue q = queue(r.courseId());
+        UserCourse key = new UserCourse(r.userId(), r.courseId());
+        switch (r.type()) {
+            case ENQUEUE -> {
+                q.seq.accumulateAndGet(r.value(), Math::max);
+                q.tickets.putIfAbsent(r.userId(), r.value());
+            }
+            case POP -> {
+                // 번호표 여부와 관계없이 처리 중으로 표시: 저널 압축 스냅샷이 번호표를 지운 뒤·처리 중 표시 전에 찍혔으면
+                // 이 사용자는 스냅샷 어디에도 없고 뒤이은 POP 레코드에만 남는다 (결과가 오면 RESULT가 지움)
+                q.tickets.remove(r.userId(), r.value());
+                inflight.put(key, r.value());
+                q.head.accumulateAndGet(r.value(), Math::max);
+            }
+            case LEAVE -> q.tickets.remove(r.userId());
+            case RESULT -> {
+                inflight.remove(key);
+                results.put(key, new TimedResult(r.status(), r.value()));
+            }
+            case RESULT_CLEAR -> results.remove(key);
+            case HEAD -> q.head.accumulateAndGet(r.value(), Math::max);
+        }
+    }
+
+    /** 현재 상태를 재생 가능한 레코드 목록으로 (저널 압축용) */
+    private List<JournalRecord> snapshot() {
+        List<JournalRecord> records = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        queues.forEach((courseId, q) -> {
+            records.add(JournalRecord.head(courseId, q.head.get()));
+            q.tickets.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .forEach(e -> records.add(JournalRecord.enqueue(courseId, e.getKey(), e.getValue())));
+        });
+        inflight.forEach((key, ticket) -> {
+            records.add(JournalRecord.enqueue(key.courseId(), key.userId(), ticket));
+            records.add(JournalRecord.pop(key.courseId(), key.userId(), ticket));
+        });
+        results.forEach((key, r) -> {
+            if (!r.isExpired(now)) records.add(JournalRecord.result(key.courseId(), key.userId(), r.status(), r.expiresAt()));
+        });
+        return records;
+    }
+
+    /** 처리 도중 종료돼 결과가 없는 요청을 원래 번호표로 큐 맨 앞에 되돌림 */
+    private void requeueInflight() {
+        inflight.forEach((key, ticket) -> {
+            CourseQueue q = queue(key.courseId());
+            q.tickets.put(key.userId(), ticket);
+            q.head.accumulateAndGet(ticket - 1, Math::min);
+        });
+        inflight.clear();
+    }
+
+    /** 번호표 순서대로 큐 항목·대기 인원·사용자별 대기 강의를 다시 구성 */
+    private void rebuildEntries() {
+        queues.forEach((courseId, q) -> {
+            q.entries.clear();
+            q.tickets.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .forEach(e -> {
+                        q.entries.add(new Entry(e.getKey(), e.getValue()));
+                        addUserQueue(e.getKey(), courseId);
+                    });
+            q.waiting.set(q.tickets.size());
+        });
+    }
+
+    /** 강의별 큐: 대기 항목(생산자 다수, 처리기 하나), 사용자별 번호표, 발급/처리 번호, 남은 좌석 미러 */
+    private static class CourseQueue {
+        final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+        final Map<Long, Long> tickets = new ConcurrentHashMap<>();
+        final AtomicLong seq = new AtomicLong();
+        final AtomicLong head = new AtomicLong();
+        final AtomicInteger waiting = new AtomicInteger();
+        final AtomicInteger seats = new AtomicInteger(SEATS_UNSET);
+
+        /** 대기 인원 < 남은 좌석 + overbooking이면 한 자리 확보 (CAS) */
+        boolean tryReserveWaitingSlot(int overbooking) {
+            while (true) {
+                int w = waiting.get();
+                int s = seats.get();
+                if (s != SEATS_UNSET && w >= s + overbooking) return false;
+                if (waiting.compareAndSet(w, w + 1)) return true;
+            }
+        }
+    }
+
+    private record Entry(Long userId, long ticket) {}
+
+    private record UserCourse(long userId, long courseId) {}
+
+    private record TimedResult(String status, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.backend.domain.registration.queue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.registration.event.EnrollQueuedEvent;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.example.backend.domain.registration.queue.RedisEnrollQueue.*;
+
+/**
+ * 선착순 수강신청 요청 대기열 (Redis, Lettuce 비동기 클라이언트, enroll.queue.backend=redis_reactive).
+ * RedisEnrollQueue와 같은 키·Lua 스크립트를 ReactiveStringRedisTemplate으로 실행한다.
+ * 여러 번 왕복하던 연산은 명령을 한꺼번에 보내고 응답을 함께 기다린다:
+ * 내 대기 순번 목록은 강의별 순번 조회를 동시에, 결과 조회·삭제는 GETDEL 한 번.
+ * 호출 측 인터페이스는 동기라 응답을 기다리지만, 가상 스레드에서는 기다리는 동안 캐리어를 놓는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "enroll.queue", name = "backend", havingValue = "redis_reactive")
+@RequiredArgsConstructor
+public class ReactiveRedisEnrollQueue implements EnrollQueue {
+
+    private final ReactiveStringRedisTemplate redis;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public long enqueue(Long courseId, Long userId, int remainingSeats) {
+        List<String> keys = new ArrayList<>(queueKeys(courseId));
+        keys.add(String.format(KEY_USER_QUEUES, userId));
+        keys.add(String.format(KEY_SEATS, courseId));
+        Long position = timed("enqueue", () -> script(ENQUEUE_SCRIPT, keys, String.valueOf(userId),
+                String.valueOf(courseId), String.valueOf(remainingSeats), String.valueOf(properties.getOverbooking()))
+                .block());
+        if (position == null) return 0;
+        if (position == SOLD_OUT) return SOLD_OUT;
+        eventPublisher.publishEvent(new EnrollQueuedEvent(courseId, userId));
+        return position;
+    }
+
+    /** 모든 강의를 스크립트 한 번(왕복 1회)으로 등록 */
+    @Override
+    public Map<Long, Long> enqueueAll(Long userId, Map<Long, Integer> remainingSeats) {
+        if (remainingSeats.isEmpty()) return Map.of();
+        List<Long> courseIds = new ArrayList<>(remainingSeats.keySet());
+        List<String> keys = new ArrayList<>();
+        keys.add(KEY_ACTIVE);
+        keys.add(String.format(KEY_USER_QUEUES, userId));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(properties.getOverbooking()));
+        for (Long courseId : courseIds) {
+            keys.add(String.format(KEY_QUEUE, courseId));
+            keys.add(String.format(KEY_TICKETS, courseId));
+            keys.add(String.format(KEY_SEQ, courseId));
+            keys.add(String.format(KEY_HEAD, courseId));
+            keys.add(String.format(KEY_SEATS, courseId));
+            args.add(String.valueOf(courseId));
+            args.add(String.valueOf(remainingSeats.get(courseId)));
+        }
+        List<Object> result = timed("enqueue_many", () -> scriptList(ENQUEUE_MANY_SCRIPT, keys, args).block());
+        Map<Long, Long> positions = new LinkedHashMap<>();
+        for (int i = 0; i < courseIds.size(); i++) {
+            long position = result != null && i < result.size() ? Long.parseLong(String.valueOf(result.get(i))) : 0;
+            positions.put(courseIds.get(i), position);
+            if (position > 0) eventPublisher.publishEvent(new EnrollQueuedEvent(courseIds.get(i), userId));
+        }
+        return positions;
+    }
+
+    @Override
+    public long getPosition(Long courseId, Long userId) {
+        Long position = timed("position", () -> position(courseId, userId).block());
+        return position != null ? position : 0;
+    }
+
+    /** 대기 중인 강의 목록 조회 후, 강의별 순번 조회를 동시에 보내 한 번에 기다림 */
+    @Override
+    public List<QueuePosition> getMyQueuePositions(Long userId) {
+        List<QueuePosition> positions = timed("user_positions", () -> userQueues(userId)
+                .flatMapSequential(courseId -> position(courseId, userId)
+                        .filter(p -> p > 0)
+                        .map(p -> new QueuePosition(courseId, p)))
+                .collectList()
+                .block());
+        return positions != null ? positions : List.of();
+    }
+
+    /** POSITIONS_BATCH명씩 나눈 스크립트를 동시에 보내고 함께 기다림 */
+    @Override
+    public Map<Long, Long> getPositions(Long courseId, Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += POSITIONS_BATCH) {
+            batches.add(ids.subList(from, Math.min(from + POSITIONS_BATCH, ids.size())));
+        }
+        Map<Long, Long> positions = timed("positions", () -> Flux.fromIterable(batches)
+                .flatMapSequential(batch -> scriptList(POSITIONS_SCRIPT, positionKeys(courseId),
+                        batch.stream().map(String::valueOf).toList()).map(result -> positionMap(batch, result)))
+                .collect(HashMap<Long, Long>::new, Map::putAll)
+                .block());
+        return positions != null ? positions : Map.of();
+    }
+
+    @Override
+    public List<Long> popMany(Long courseId, int count) {
+        List<String> keys = new ArrayList<>(queueKeys(courseId));
+        keys.add(String.format(KEY_SEATS, courseId));
+        List<Object> uids = timed("pop", () -> scriptList(POP_SCRIPT, keys,
+                List.of(String.valueOf(count), String.valueOf(courseId), KEY_USER_QUEUES_PREFIX)).block());
+        if (uids == null || uids.isEmpty()) return List.of();
+        return uids.stream().map(uid -> Long.parseLong(String.valueOf(uid))).collect(Collectors.toList());
+    }
+
+    @Override
+    public void syncSeats(Long courseId, int remainingSeats) {
+        timed("seats_sync", () ->
+                redis.opsForValue().set(String.format(KEY_SEATS, courseId), String.valueOf(remainingSeats)).block());
+    }
+
+    @Override
+    public void adjustSeats(Long courseId, int delta) {
+        timed("seats_adjust", () ->
+                script(SEATS_ADJUST_SCRIPT, List.of(String.format(KEY_SEATS, courseId)), String.valueOf(delta)).block());
+    }
+
+    @Override
+    public void clearSeats(Long courseId) {
+        timed("seats_clear", () -> redis.delete(String.format(KEY_SEATS, courseId)).block());
+    }
+
+    @Override
+    public void setResult(Long userId, Long courseId, String status) {
+        timed("result_set", () ->
+                redis.opsForValue().set(String.format(KEY_RESULT, userId, courseId), status, RESULT_TTL).block());
+    }
+
+    @Override
+    public String getResult(Long userId, Long courseId) {
+        return timed("result_peek", () -> redis.opsForValue().get(String.format(KEY_RESULT, userId, courseId)).block());
+    }
+
+    /** GETDEL 한 번으로 조회와 삭제 */
+    @Override
+    public String getAndClearResult(Long userId, Long courseId) {
+        return timed("result_get", () ->
+                redis.opsForValue().getAndDelete(String.format(KEY_RESULT, userId, courseId)).block());
+    }
+
+    @Override
+    public void removeFromQueue(Long courseId, Long userId) {
+        List<String> keys = new ArrayList<>(queueKeys(courseId));
+        keys.add(String.format(KEY_USER_QUEUES, userId));
+        timed("leave", () -> script(LEAVE_SCRIPT, keys, String.valueOf(userId), String.valueOf(courseId)).block());
+    }
+
+    @Override
+    public List<Long> getMyQueuedCourseIds(Long userId) {
+        List<Long> ids = timed("user_queues", () -> userQueues(userId).collectList().block());
+        return ids != null ? ids : List.of();
+    }
+
+    @Override
+    public long getQueueSize(Long courseId) {
+        Long size = timed("size", () -> redis.opsForHash().size(String.format(KEY_TICKETS, courseId)).block());
+        return size != null ? size : 0;
+    }
+
+    @Override
+    public Set<Long> getActiveCourseIds() {
+        Set<Long> ids = timed("active", () -> redis.opsForSet().members(KEY_ACTIVE)
+                .map(Long::parseLong)
+                .collect(Collectors.toSet())
+                .block());
+        return ids != null ? ids : Set.of();
+    }
+
+    private Mono<Long> position(Long courseId, Long userId) {
+        return script(POSITION_SCRIPT, positionKeys(courseId), String.valueOf(userId));
+    }
+
+    private Flux<Long> userQueues(Long userId) {
+        return redis.opsForSet().members(String.format(KEY_USER_QUEUES, userId)).map(Long::parseLong);
+    }
+
+    /** 값 하나를 돌려주는 스크립트 */
+    private <T> Mono<T> script(RedisScript<T> script, List<String> keys, String... args) {
+        return redis.execute(script, keys, List.of(args)).next();
+    }
+
+    /**
+     * 목록을 돌려주는 스크립트. 클라이언트에 따라 목록 하나 또는 원소별로 오므로 펼쳐서 모은다.
+     */
+    @SuppressWarnings("rawtypes")
+    private Mono<List<Object>> scriptList(RedisScript<List> script, List<String> keys, List<String> args) {
+        Flux<?> results = redis.execute(script, keys, args);
+        return results.<Object>flatMapIterable(v -> v instanceof List<?> list ? list : List.of(v)).collectList();
+    }
+
+    private <T> T timed(String op, Supplier<T> call) {
+        return timer(op).record(call);
+    }
+
+    private Timer timer(String op) {
+        return Timer.builder("enroll.queue.op").tag("op", op).register(meterRegistry);
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.backend.domain.registration.queue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.registration.event.EnrollQueuedEvent;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 수강신청 요청 대기열 (Redis, enroll.queue.backend=redis 기본값).
+ * 강의별로 번호표(ticket)를 순서대로 발급하고, 마지막으로 꺼낸 번호(head)와의 차이로 순번을 계산한다 (O(1)).
+ * 등록·꺼내기·포기는 Lua 스크립트로 원자적으로 수행한다 (resources/redis/*.lua).
+ * 강의별 남은 좌석(enroll:seats)을 미러링해, 대기 인원이 남은 좌석 + overbooking을 넘으면 등록을 거절한다 (매진).
+ * 연산별 소요 시간을 enroll.queue.op 지표(op 태그)로 기록한다.
+ * 키·스크립트는 ReactiveRedisEnrollQueue와 함께 쓴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "enroll.queue", name = "backend", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisEnrollQueue implements EnrollQueue {
+
+    static final String KEY_QUEUE = "enroll:queue:%d";
+    static final String KEY_TICKETS = "enroll:ticket:%d";
+    static final String KEY_SEQ = "enroll:seq:%d";
+    static final String KEY_HEAD = "enroll:head:%d";
+    static final String KEY_ACTIVE = "enroll:active";
+    static final String KEY_RESULT = "enroll:result:%s:%s";
+    static final String KEY_USER_QUEUES = "enroll:user:%s";
+    static final String KEY_USER_QUEUES_PREFIX = "enroll:user:";
+    static final String KEY_SEATS = "enroll:seats:%d";
+    static final Duration RESULT_TTL = Duration.ofSeconds(300);
+    /** 순번 일괄 조회 스크립트 한 번에 넘기는 사용자 수 (Lua unpack 인자 수 제한) */
+    static final int POSITIONS_BATCH = 1000;
+
+    static final RedisScript<Long> ENQUEUE_SCRIPT = script("redis/enroll-enqueue.lua", Long.class);
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> ENQUEUE_MANY_SCRIPT = script("redis/enroll-enqueue-many.lua", List.class);
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> POP_SCRIPT = script("redis/enroll-pop.lua", List.class);
+    static final RedisScript<Long> LEAVE_SCRIPT = script("redis/enroll-leave.lua", Long.class);
+    static final RedisScript<Long> POSITION_SCRIPT = script("redis/enroll-position.lua", Long.class);
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> POSITIONS_SCRIPT = script("redis/enroll-positions.lua", List.class);
+    static final RedisScript<Long> SEATS_ADJUST_SCRIPT = script("redis/enroll-seats-adjust.lua", Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public long enqueue(Long courseId, Long userId, int remainingSeats) {
+        List<String> keys = new ArrayList<>(queueKeys(courseId));
+        keys.add(String.format(KEY_USER_QUEUES, userId));
+        keys.add(String.format(KEY_SEATS, courseId));
+        Long position = timed("enqueue", () -> redis.execute(ENQUEUE_SCRIPT, keys, String.valueOf(userId),
+                String.valueOf(courseId), String.valueOf(remainingSeats), String.valueOf(properties.getOverbooking())));
+        if (position == null) return 0;
+        if (position == SOLD_OUT) return SOLD_OUT;
+        eventPublisher.publishEvent(new EnrollQueuedEvent(courseId, userId));
+        return position;
+    }
+
+    /** 모든 강의를 스크립트 한 번(왕복 1회)으로 등록 */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> enqueueAll(Long userId, Map<Long, Integer> remainingSeats) {
+        if (remainingSeats.isEmpty()) return Map.of();
+        List<Long> courseIds = new ArrayList<>(remainingSeats.keySet());
+        List<String> keys = new ArrayList<>();
+        keys.add(KEY_ACTIVE);
+        keys.add(String.format(KEY_USER_QUEUES, userId));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(properties.getOverbooking()));
+        for (Long courseId : courseIds) {
+            keys.add(String.format(KEY_QUEUE, courseId));
+            keys.add(String.format(KEY_TICKETS, courseId));
+            keys.add(String.format(KEY_SEQ, courseId));
+            keys.add(String.format(KEY_HEAD, courseId));
+            keys.add(String.format(KEY_SEATS, courseId));
+            args.add(String.valueOf(courseId));
+            args.add(String.valueOf(remainingSeats.get(courseId)));
+        }
+        List<Object> result = timed("enqueue_many", () -> redis.execute(ENQUEUE_MANY_SCRIPT, keys, args.toArray()));
+        Map<Long, Long> positions = new LinkedHashMap<>();
+        for (int i = 0; i < courseIds.size(); i++) {
+            long position = result != null && i < result.size() ? Long.parseLong(String.valueOf(result.get(i))) : 0;
+            positions.put(courseIds.get(i), position);
+            if (position > 0) eventPublisher.publishEvent(new EnrollQueuedEvent(courseIds.get(i), userId));
+        }
+        return positions;
+    }
+
+    @Override
+    public long getPosition(Long courseId, Long userId) {
+        Long position = timed("position", () -> redis.execute(POSITION_SCRIPT, positionKeys(courseId),
+                String.valueOf(userId)));
+        return position != null ? position : 0;
+    }
+
+    /** POSITIONS_BATCH명마다 스크립트 한 번(왕복 1회)으로 조회 */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> getPositions(Long courseId, Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        Map<Long, Long> positions = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += POSITIONS_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + POSITIONS_BATCH, ids.size()));
+            List<Object> result = timed("positions", () -> redis.execute(POSITIONS_SCRIPT, positionKeys(courseId),
+                    batch.stream().map(String::valueOf).toArray()));
+            positions.putAll(positionMap(batch, result));
+        }
+        return positions;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> popMany(Long courseId, int count) {
+        List<String> keys = new ArrayList<>(queueKeys(courseId));
+        keys.add(String.format(KEY_SEATS, courseId));
+        List<Object> uids = timed("pop", () -> redis.execute(POP_SCRIPT, keys,
+                String.valueOf(count), String.valueOf(courseId), KEY_USER_QUEUES_PREFIX));
+        if (uids == null || uids.isEmpty()) return List.of();
+        return uids.stream().map(uid -> Long.parseLong(String.valueOf(uid))).collect(Collectors.toList());
+    }
+
+    @Override
+    public void syncSeats(Long courseId, int remainingSeats) {
+        timedRun("seats_sync", () -> redis.opsForValue().set(String.format(KEY_SEATS, courseId), String.valueOf(remainingSeats)));
+    }
+
+    @Override
+    public void adjustSeats(Long courseId, int delta) {
+        timedRun("seats_adjust", () ->
+                redis.execute(SEATS_ADJUST_SCRIPT, List.of(String.format(KEY_SEATS, courseId)), String.valueOf(delta)));
+    }
+
+    @Override
+    public void clearSeats(Long courseId) {
+        timedRun("seats_clear", () -> redis.delete(String.format(KEY_SEATS, courseId)));
+    }
+
+    @Override
+    public void setResult(Long userId, Long courseId, String status) {
+        timedRun("result_set", () -> redis.opsForValue().set(String.format(KEY_RESULT, userId, courseId), status, RESULT_TTL));
+    }
+
+    @Override
+    public String getResult(Long userId, Long courseId) {
+        return timed("result_peek", () -> redis.opsForValue().get(String.format(KEY_RESULT, userId, courseId)));
+    }
+
+    @Override
+    public String getAndClearResult(Long userId, Long courseId) {
+        String key = String.format(KEY_RESULT, userId, courseId);
+        return timed("result_get", () -> {
+            String v = redis.opsForValue().get(key);
+            if (v != null) redis.delete(key);
+            return v;
+        });
+    }
+
+    @Override
+    public void removeFromQueue(Long courseId, Long userId) {
+        List<String> keys = new ArrayList<>(queueKeys(courseId));
+        keys.add(String.format(KEY_USER_QUEUES, userId));
+        timedRun("leave", () -> redis.execute(LEAVE_SCRIPT, keys, String.valueOf(userId), String.valueOf(courseId)));
+    }
+
+    @Override
+    public List<Long> getMyQueuedCourseIds(Long userId) {
+        Set<String> set = timed("user_queues", () ->
+                redis.opsForSet().members(String.format(KEY_USER_QUEUES, String.valueOf(userId))));
+        if (set == null) return List.of();
+        return set.stream().map(Long::parseLong).collect(Collectors.toList());
+    }
+
+    @Override
+    public long getQueueSize(Long courseId) {
+        Long size = timed("size", () -> redis.opsForHash().size(String.format(KEY_TICKETS, courseId)));
+        return size != null ? size : 0;
+    }
+
+    @Override
+    public Set<Long> getActiveCourseIds() {
+        Set<String> set = timed("active", () -> redis.opsForSet().members(KEY_ACTIVE));
+        if (set == null) return Set.of();
+        return set.stream().map(Long::parseLong).collect(Collectors.toSet());
+    }
+
+    /** 순번 조회 KEYS: tickets, head */
+    static List<String> positionKeys(Long courseId) {
+        return List.of(String.format(KEY_TICKETS, courseId), String.format(KEY_HEAD, courseId));
+    }
+
+    /** 순번 목록 응답을 사용자 ID → 순번으로 (응답이 짧으면 0) */
+    static Map<Long, Long> positionMap(List<Long> userIds, List<Object> result) {
+        Map<Long, Long> positions = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            positions.put(userIds.get(i),
+                    result != null && i < result.size() ? Long.parseLong(String.valueOf(result.get(i))) : 0);
+        }
+        return positions;
+    }
+
+    /** 스크립트 공통 KEYS: queue, tickets, seq, head, active */
+    static List<String> queueKeys(Long courseId) {
+        return List.of(
+                String.format(KEY_QUEUE, courseId),
+                String.format(KEY_TICKETS, courseId),
+                String.format(KEY_SEQ, courseId),
+                String.format(KEY_HEAD, courseId),
+                KEY_ACTIVE);
+    }
+
+    private <T> T timed(String op, Supplier<T> call) {
+        return timer(op).record(call);
+    }
+
+    private void timedRun(String op, Runnable call) {
+        timer(op).record(call);
+    }
+
+    private Timer timer(String op) {
+        return Timer.builder("enroll.queue.op").tag("op", op).register(meterRegistry);
+    }
+
+    private static <T> RedisScript<T> script(String path, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource(path), resultType);
+    }
+}
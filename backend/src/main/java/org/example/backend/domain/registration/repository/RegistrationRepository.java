@@ -1,12 +1,16 @@
 package org.example.backend.domain.registration.repository;
 
+import org.example.backend.domain.registration.dto.EnrolledStudentResponse;
+import org.example.backend.domain.registration.dto.EnrollmentResponse;
 import org.example.backend.domain.registration.entity.Registration;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +19,40 @@ import java.util.Optional;
  */
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
 
-    List<Registration> findByStudentIdOrderByCreatedAtDesc(Long studentId);
+    /** 내 수강 내역 (강의·담당 교수명까지 한 문장, 최근 신청 순) */
+    @Query("select new org.example.backend.domain.registration.dto.EnrollmentResponse(" +
+            "r.id, c.id, c.courseCode, c.title, c.category, c.credit, c.schedule, u.name, r.createdAt) " +
+            "from Registration r join r.course c join c.professor p join p.user u " +
+            "where r.student.user.id = :userId order by r.createdAt desc")
+    List<EnrollmentResponse> findEnrollmentResponsesByStudentUserId(@Param("userId") Long userId);
 
-    List<Registration> findByCourseId(Long courseId);
+    /** 강의별 수강생 명단 (학생·이름까지 한 문장, 신청 순) */
+    @Query("select new org.example.backend.domain.registration.dto.EnrolledStudentResponse(" +
+            "r.id, s.id, s.studentNumber, u.name, s.grade, r.createdAt) " +
+            "from Registration r join r.student s join s.user u where r.course.id = :courseId order by r.id")
+    List<EnrolledStudentResponse> findEnrolledStudentResponsesByCourseId(@Param("courseId") Long courseId);
 
     Optional<Registration> findByStudentIdAndCourseId(Long studentId, Long courseId);
 
     boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    /** 주어진 강의들 중 학생이 이미 신청한 강의 ID (장바구니 신청 중복 검사용) */
+    @Query("select r.course.id from Registration r where r.student.id = :studentId and r.course.id in :courseIds")
+    List<Long> findCourseIdsByStudentIdAndCourseIdIn(@Param("studentId") Long studentId,
+                                                     @Param("courseIds") Collection<Long> courseIds);
+
+    /** 주어진 학생들 중 이미 해당 강의를 신청한 학생 ID (일괄 처리 중복 검사용) */
+    @Query("select r.student.id from Registration r where r.course.id = :courseId and r.student.id in :studentIds")
+    List<Long> findStudentIdsByCourseIdAndStudentIdIn(@Param("courseId") Long courseId,
+                                                      @Param("studentIds") Collection<Long> studentIds);
+
+    /** 학생이 신청한 강의 중 courseId를 뺀 나머지의 시간표 비트마스크 (취소 후 시간표 재계산용) */
+    @Query("select r.course.scheduleMask from Registration r where r.student.id = :studentId and r.course.id <> :courseId")
+    List<Long> findScheduleMasksByStudentIdAndCourseIdNot(@Param("studentId") Long studentId,
+                                                          @Param("courseId") Long courseId);
+
+    /** 수강신청 내역 삭제 (엔티티 로딩 없이). 삭제된 행 수 */
+    @Modifying
+    @Query("delete from Registration r where r.student.id = :studentId and r.course.id = :courseId")
+    int deleteByStudentIdAndCourseId(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
 }
@@ -0,0 +1,40 @@
+package org.example.backend.domain.registration.repository;
+
+import org.example.backend.domain.registration.entity.SeatWaitlist;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SeatWaitlist(빈자리 대기 명단) 엔티티 저장소.
+ */
+public interface SeatWaitlistRepository extends JpaRepository<SeatWaitlist, Long> {
+
+    /** 강의의 대기 명단 (대기 순서대로, 학생 함께 조회) */
+    @Query("select w from SeatWaitlist w join fetch w.student where w.course.id = :courseId order by w.id")
+    List<SeatWaitlist> findByCourseIdWithStudent(@Param("courseId") Long courseId);
+
+    /** 강의의 대기 명단 ID·학생 userId (트랜잭션 밖 승격용) */
+    @Query("select w.id as id, w.student.user.id as userId from SeatWaitlist w where w.course.id = :courseId order by w.id")
+    List<EntryView> findEntriesByCourseId(@Param("courseId") Long courseId);
+
+    List<SeatWaitlist> findByStudentIdOrderByIdAsc(Long studentId);
+
+    Optional<SeatWaitlist> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    boolean existsByCourseId(Long courseId);
+
+    /** 대기 순번 (1부터) = 같은 강의에서 id가 같거나 작은 건수 */
+    long countByCourseIdAndIdLessThanEqual(Long courseId, Long id);
+
+    interface EntryView {
+        Long getId();
+
+        Long getUserId();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.backend.domain.registration.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.course.entity.Course;
+import org.example.backend.domain.course.repository.CourseRepository;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.example.backend.global.config.EnrollQueueProperties.Locking;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 수강신청·취소 DB 반영 트랜잭션 실행 (enroll.queue.locking).
+ * - PESSIMISTIC: 강의 행을 SELECT ... FOR UPDATE로 잠근 채 처리 (같은 강의 요청은 직렬화)
+ * - OPTIMISTIC: 잠금 없이 읽고 커밋 시 @Version으로 충돌 검사
+ * - CONDITIONAL: 한 명 신청·취소는 엔티티 없이 조건부 UPDATE 한 문장씩 (EnrollmentService), 일괄 처리는 OPTIMISTIC과 같음
+ * 어느 방식이든 버전 충돌(다른 트랜잭션이 먼저 강의·학생 행을 바꿈)이면 새 트랜잭션으로 다시 실행한다.
+ * 재시도는 enroll.queue.retry.max-attempts번까지, 대기는 지수 백오프 + 지터. 모두 충돌하면 OptimisticLockingFailureException.
+ * 호출 측 트랜잭션에 합류하면 재시도할 수 없으므로 트랜잭션 밖에서 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollAdmission {
+
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EnrollQueueProperties properties;
+    private final EnrollMetrics metrics;
+
+    /** 한 명 신청·취소를 조건부 UPDATE로 처리하는지 여부 */
+    public boolean isConditional() {
+        return properties.getLocking() == Locking.CONDITIONAL;
+    }
+
+    /** 트랜잭션 안에서 강의 조회 (PESSIMISTIC이면 행 잠금, 대기 시간 기록) */
+    public Optional<Course> loadCourse(Long courseId) {
+        if (properties.getLocking() != Locking.PESSIMISTIC) return courseRepository.findById(courseId);
+        return metrics.lockWait().record(() -> courseRepository.findByIdForUpdate(courseId));
+    }
+
+    /** work를 새 트랜잭션에서 실행하고 커밋. 버전 충돌이면 백오프 후 재실행 */
+    public <T> T execute(Supplier<T> work) {
+        EnrollQueueProperties.Retry retry = properties.getRetry();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.getMaxAttempts()) {
+                    metrics.admissionConflict("aborted");
+                    throw e;
+                }
+                metrics.admissionConflict("retried");
+                backoff(retry, attempt, e);
+            }
+        }
+    }
+
+    public void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static void backoff(EnrollQueueProperties.Retry retry, int attempt,
+                                OptimisticLockingFailureException cause) {
+        long max = Math.min(retry.getMaxBackoffMs(), retry.getBackoffMs() << Math.min(attempt - 1, 20));
+        if (max <= 0) return;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(max / 2, max + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
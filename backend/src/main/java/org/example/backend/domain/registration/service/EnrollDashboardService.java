@@ -0,0 +1,360 @@
+package org.example.backend.domain.registration.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.course.event.CourseChangedEvent;
+import org.example.backend.domain.course.repository.CourseRepository;
+import org.example.backend.domain.registration.dto.DashboardCourseResponse;
+import org.example.backend.domain.registration.event.EnrollRejectedEvent;
+import org.example.backend.domain.registration.event.EnrollSettledEvent;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.example.backend.global.sse.SseSender;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Admin] 강의별 수강신청 현황판 (SSE). 신청 인원·대기열 인원·처리 속도·거절 건수를 보낸다.
+ * 시작할 때 강의 정보와 신청 인원을 한 번 읽어 두고, 이후에는 이벤트로 메모리 값만 바꾼다:
+ * 신청 인원은 CourseChangedEvent의 증감, 거절은 EnrollRejectedEvent(sold_out)·EnrollSettledEvent(full, error).
+ * 강의 등록·수정·삭제 때는 그 강의 행을, 놓친 증감에 대비해 RESYNC_MS마다 전체 행을 다시 읽는다.
+ * 다시 읽을 때는 조회 직전까지 더해 둔 증감만 빼므로, 조회와 반영 사이에 들어온 증감은 남는다.
+ * 구독자가 있을 때만 주기마다 바뀐 강의와 합계를 JSON으로 한 번 만들어 모든 구독자에게 같은 값을 보낸다.
+ * 전송은 SseSender로 연결마다 비동기로 해 느린 연결이 다른 구독자를 막지 않는다.
+ * - snapshot: 연결 직후 전체 { "courses": [...], "totals": {...} }
+ * - courses: 바뀐 강의만 { "courses": [...], "removed": [id...], "totals": {...} }
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollDashboardService {
+
+    /** 바뀐 값이 없을 때 연결 유지(comment) 주기 */
+    private static final long HEARTBEAT_MS = 15_000;
+    /** 신청 인원 전체 재조회 주기 (구독자가 있을 때만) */
+    private static final long RESYNC_MS = 300_000;
+
+    private final CourseRepository courseRepository;
+    private final EnrollQueue enrollQueue;
+    private final EnrollDrainMeter drainMeter;
+    private final SseSender sseSender;
+    private final EnrollQueueProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /** 강의 ID → 집계 */
+    private final Map<Long, CourseStat> stats = new ConcurrentHashMap<>();
+    /** 마지막 전송 후 이벤트로 값이 바뀐 강의 */
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    /** 다시 읽을 강의 (정보 변경) */
+    private final Set<Long> reloads = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    private final List<SseSender.Channel> channels = new CopyOnWriteArrayList<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("enroll-dashboard-worker").daemon().factory());
+    private final AtomicBoolean ticking = new AtomicBoolean();
+
+    /** 마지막으로 보낸 강의별 값 (worker 스레드에서만 접근) */
+    private final Map<Long, DashboardCourseResponse> lastSent = new HashMap<>();
+    private final Set<Long> removed = new HashSet<>();
+    private long lastSentAt;
+    private volatile long lastResyncAt;
+
+    /** 시작 시 적재 (한 문장). 실패하면 첫 구독 때 다시 시도 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            resync();
+            loaded = true;
+        } catch (RuntimeException e) {
+            log.warn("Enroll dashboard load failed, retried on first subscribe: {}", e.getMessage());
+        }
+    }
+
+    /** 커밋된 신청 인원 증감 반영, 강의 정보 변경은 다음 주기에 그 행만 다시 읽도록 표시 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.courseId() == null) return; // 학과 변경: 현황판 값과 무관
+        if (!event.enrollmentOnly()) {
+            reloads.add(event.courseId());
+            return;
+        }
+        CourseStat stat = stats.get(event.courseId());
+        if (stat == null) return;
+        stat.delta.addAndGet(event.enrollmentDelta());
+        changed.add(event.courseId());
+    }
+
+    @EventListener
+    public void onRejected(EnrollRejectedEvent event) {
+        CourseStat stat = stats.get(event.courseId());
+        if (stat == null) return;
+        stat.soldOut.increment();
+        changed.add(event.courseId());
+    }
+
+    /** 처리 결과: 거절은 건수, 성공은 처리 속도가 바뀌므로 표시만 */
+    @EventListener
+    public void onSettled(EnrollSettledEvent event) {
+        CourseStat stat = stats.get(event.courseId());
+        if (stat == null) return;
+        if ("full".equals(event.status())) stat.full.increment();
+        else if ("error".equals(event.status())) stat.error.increment();
+        changed.add(event.courseId());
+    }
+
+    /** 구독 등록. 전체 현황은 새 구독자에게만 보냄 */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeoutMs());
+        SseSender.Channel channel = sseSender.open(emitter, channels::remove);
+        channels.add(channel);
+        emitter.onCompletion(() -> channels.remove(channel));
+        emitter.onTimeout(() -> channels.remove(channel));
+        emitter.onError(e -> channels.remove(channel));
+        worker.execute(() -> {
+            try {
+                refresh();
+                Set<Long> active = enrollQueue.getActiveCourseIds();
+                List<DashboardCourseResponse> rows = stats.keySet().stream().sorted()
+                        .map(id -> row(id, active)).toList();
+                send(List.of(channel), "snapshot", payload(rows, List.of()));
+            } catch (Exception e) {
+                log.debug("Enroll dashboard snapshot skip: {}", e.getMessage());
+            }
+        });
+        return emitter;
+    }
+
+    /** 바뀐 강의만 모든 구독자에게 전송 (구독자가 없으면 아무것도 하지 않음) */
+    @Scheduled(fixedDelayString = "${enroll.queue.stream-push-interval-ms:1000}")
+    public void push() {
+        if (channels.isEmpty() || !ticking.compareAndSet(false, true)) return;
+        worker.execute(() -> {
+            try {
+                pushChanges();
+            } catch (Exception e) {
+                log.debug("Enroll dashboard push skip: {}", e.getMessage());
+            } finally {
+                ticking.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        worker.shutdownNow();
+        channels.forEach(SseSender.Channel::complete);
+        channels.clear();
+    }
+
+    /** 대기열 인원 확인 후 보낸 값과 다른 강의만 전송 (worker 스레드) */
+    private void pushChanges() {
+        refresh();
+        Set<Long> candidates = new HashSet<>(changed);
+        changed.removeAll(candidates);
+        // 대기열·처리 속도는 이벤트가 없으므로 대기 중인 강의와 직전에 0이 아니던 강의만 확인
+        Set<Long> active = enrollQueue.getActiveCourseIds();
+        candidates.addAll(active);
+        lastSent.forEach((id, r) -> {
+            if (r.getQueued() > 0 || r.getDrainRate() > 0) candidates.add(id);
+        });
+
+        List<DashboardCourseResponse> rows = new ArrayList<>();
+        for (Long courseId : candidates) {
+            if (!stats.containsKey(courseId)) continue;
+            DashboardCourseResponse row = row(courseId, active);
+            if (!row.equals(lastSent.get(courseId))) rows.add(row);
+        }
+        long now = System.currentTimeMillis();
+        if (rows.isEmpty() && removed.isEmpty()) {
+            if (now - lastSentAt >= HEARTBEAT_MS) heartbeat();
+            return;
+        }
+        send(channels, "courses", payload(rows, new ArrayList<>(removed)));
+        rows.forEach(r -> lastSent.put(r.getCourseId(), r));
+        removed.clear();
+    }
+
+    /** 정보가 바뀐 강의 행만 다시 읽음 (없어진 강의는 제거). RESYNC_MS가 지났으면 전체를 다시 읽음 */
+    private void refresh() {
+        if (!loaded) load();
+        if (System.currentTimeMillis() - lastResyncAt >= RESYNC_MS) {
+            reloads.clear();
+            resync();
+            return;
+        }
+        if (reloads.isEmpty()) return;
+        Set<Long> ids = new HashSet<>(reloads);
+        reloads.removeAll(ids);
+        Map<Long, Integer> applied = captureDeltas(ids);
+        Set<Long> found = new HashSet<>();
+        courseRepository.findDashboardViewsByIdIn(ids).forEach(v -> {
+            put(v, applied.getOrDefault(v.getId(), 0));
+            found.add(v.getId());
+        });
+        ids.removeAll(found);
+        ids.forEach(this::drop);
+    }
+
+    /** 전체 행을 다시 읽어 신청 인원을 DB 값으로 맞춤 (없어진 강의는 제거) */
+    private void resync() {
+        Map<Long, Integer> applied = captureDeltas(stats.keySet());
+        Set<Long> found = new HashSet<>();
+        courseRepository.findDashboardViews().forEach(v -> {
+            put(v, applied.getOrDefault(v.getId(), 0));
+            found.add(v.getId());
+        });
+        new ArrayList<>(stats.keySet()).stream().filter(id -> !found.contains(id)).forEach(this::drop);
+        lastResyncAt = System.currentTimeMillis();
+    }
+
+    /** 다시 읽기 직전까지 더해 둔 증감 (곧 읽을 행에 이미 반영돼 있음) */
+    private Map<Long, Integer> captureDeltas(Set<Long> ids) {
+        Map<Long, Integer> captured = new HashMap<>();
+        for (Long id : ids) {
+            CourseStat stat = stats.get(id);
+            if (stat != null) captured.put(id, stat.delta.get());
+        }
+        return captured;
+    }
+
+    /** 읽은 행으로 갱신하고 값이 바뀌었으면 표시. 신청 인원은 행 값 + (조회 후 들어온 증감 = 현재 증감 - applied) */
+    private void put(CourseRepository.DashboardView v, int applied) {
+        int enrolled = v.getCurrentEnrollment() != null ? v.getCurrentEnrollment() : 0;
+        CourseStat stat = stats.get(v.getId());
+        if (stat == null) {
+            stats.put(v.getId(), new CourseStat(v.getCourseCode(), v.getTitle(), v.getCapacity(), enrolled));
+            if (loaded) changed.add(v.getId()); // 첫 적재 값은 구독 시 snapshot으로 감
+            return;
+        }
+        int before = stat.enrolled();
+        boolean infoChanged = !Objects.equals(stat.courseCode, v.getCourseCode())
+                || !Objects.equals(stat.title, v.getTitle()) || !Objects.equals(stat.capacity, v.getCapacity());
+        stat.courseCode = v.getCourseCode();
+        stat.title = v.getTitle();
+        stat.capacity = v.getCapacity();
+        stat.base = enrolled;
+        stat.delta.addAndGet(-applied);
+        if (infoChanged || stat.enrolled() != before) changed.add(v.getId());
+    }
+
+    private void drop(Long courseId) {
+        if (stats.remove(courseId) != null) removed.add(courseId);
+        lastSent.remove(courseId);
+    }
+
+    /** 현재 값 (대기열 인원은 대기 중인 강의만 조회) */
+    private DashboardCourseResponse row(Long courseId, Set<Long> active) {
+        CourseStat s = stats.get(courseId);
+        long queued = active.contains(courseId) ? enrollQueue.getQueueSize(courseId) : 0;
+        s.queued = queued;
+        return DashboardCourseResponse.builder()
+                .courseId(courseId)
+                .courseCode(s.courseCode)
+                .title(s.title)
+                .capacity(s.capacity)
+                .enrolled(s.enrolled())
+                .queued(queued)
+                .drainRate(Math.round(drainMeter.rate(courseId) * 10) / 10.0)
+                .soldOut(s.soldOut.sum())
+                .full(s.full.sum())
+                .error(s.error.sum())
+                .build();
+    }
+
+    /** 강의 목록·합계를 JSON 한 번으로 직렬화 */
+    private String payload(List<DashboardCourseResponse> rows, List<Long> removedIds) {
+        long capacity = 0, enrolled = 0, queued = 0, soldOut = 0, full = 0, error = 0;
+        for (CourseStat s : stats.values()) {
+            capacity += s.capacity != null ? s.capacity : 0;
+            enrolled += s.enrolled();
+            queued += s.queued;
+            soldOut += s.soldOut.sum();
+            full += s.full.sum();
+            error += s.error.sum();
+        }
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("courses", stats.size());
+        totals.put("capacity", capacity);
+        totals.put("enrolled", enrolled);
+        totals.put("queued", queued);
+        totals.put("drainRate", Math.round(drainMeter.totalRate() * 10) / 10.0);
+        totals.put("soldOut", soldOut);
+        totals.put("full", full);
+        totals.put("error", error);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("courses", rows);
+        if (!removedIds.isEmpty()) body.put("removed", removedIds);
+        body.put("totals", totals);
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 같은 JSON을 연결마다 비동기로 전송 (느린 연결은 SseSender가 끊음) */
+    private void send(List<SseSender.Channel> targets, String name, String json) {
+        for (SseSender.Channel channel : targets) {
+            channel.send(SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON));
+        }
+        lastSentAt = System.currentTimeMillis();
+    }
+
+    private void heartbeat() {
+        channels.forEach(c -> c.send(SseEmitter.event().comment("ping")));
+        lastSentAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 강의별 집계. 강의 정보·base·queued는 worker 스레드(적재 시 시작 스레드)에서만 바꿈.
+     * 신청 인원 = base(마지막으로 읽은 행 값) + delta(그 뒤 이벤트로 받은 증감)
+     */
+    private static class CourseStat {
+        volatile String courseCode;
+        volatile String title;
+        volatile Integer capacity;
+        volatile int base;
+        final AtomicInteger delta = new AtomicInteger();
+        final LongAdder soldOut = new LongAdder();
+        final LongAdder full = new LongAdder();
+        final LongAdder error = new LongAdder();
+        volatile long queued;
+
+        CourseStat(String courseCode, String title, Integer capacity, int enrolled) {
+            this.courseCode = courseCode;
+            this.title = title;
+            this.capacity = capacity;
+            this.base = enrolled;
+        }
+
+        int enrolled() {
+            return base + delta.get();
+        }
+    }
+}
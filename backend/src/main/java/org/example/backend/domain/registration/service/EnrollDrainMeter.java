@@ -0,0 +1,72 @@
+package org.example.backend.domain.registration.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 강의별 큐 처리 속도 측정 (초당 처리 인원, 지수 가중 이동 평균).
+ * 큐 처리기가 처리 건수를 기록하고, 1초마다 구간 처리량을 평균에 반영한다.
+ * 대기 순번을 처리 속도로 나눠 예상 대기 시간(ETA)을 계산하고, 요청 제한의 Retry-After에도 쓴다.
+ */
+@Component
+public class EnrollDrainMeter {
+
+    private static final long TICK_MS = 1000;
+    /** 새 구간 처리량 반영 비율 (최근 몇 초를 주로 반영할지) */
+    private static final double ALPHA = 0.3;
+    /** 이 값보다 느려진 강의는 측정값 삭제 (초당 인원) */
+    private static final double MIN_RATE = 0.01;
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private final Map<Long, Double> rates = new ConcurrentHashMap<>();
+    private volatile double totalRate;
+
+    /** 처리 건수 기록 (큐 처리기에서 호출) */
+    public void record(Long courseId, int processed) {
+        if (processed <= 0) return;
+        counts.computeIfAbsent(courseId, k -> new LongAdder()).add(processed);
+    }
+
+    /** 강의의 초당 처리 인원. 측정값이 없으면 0 */
+    public double rate(Long courseId) {
+        return rates.getOrDefault(courseId, 0.0);
+    }
+
+    /** 순번 position인 사용자의 예상 대기 시간 (초). 측정값이 없으면 null */
+    public Long etaSeconds(Long courseId, long position) {
+        double rate = rate(courseId);
+        if (rate <= 0 || position <= 0) return null;
+        return (long) Math.ceil(position / rate);
+    }
+
+    /** 전체 초당 처리 인원 */
+    public double totalRate() {
+        return totalRate;
+    }
+
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        double seconds = TICK_MS / 1000.0;
+        for (Long courseId : counts.keySet()) {
+            rates.putIfAbsent(courseId, 0.0);
+        }
+        double total = 0;
+        for (Map.Entry<Long, Double> e : rates.entrySet()) {
+            LongAdder adder = counts.get(e.getKey());
+            long n = adder != null ? adder.sumThenReset() : 0;
+            double rate = e.getValue() + ALPHA * (n / seconds - e.getValue());
+            if (rate < MIN_RATE && n == 0) {
+                rates.remove(e.getKey());
+                if (adder != null) counts.remove(e.getKey(), adder);
+                continue;
+            }
+            e.setValue(rate);
+            total += rate;
+        }
+        totalRate = total;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.backend.domain.registration.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 수강신청 처리 경로 지표 (Micrometer, /actuator/prometheus).
+ * - enroll.request: 신청 요청 처리 시간 (검증 + 대기열 등록)
+ * - enroll.process: 대기열에서 꺼내 처리하는 시간 (mode=one|batch, 커밋·재시도 포함)
+ * - enroll.internal: 한 명 수강신청 DB 처리 시간 (커밋·재시도 포함)
+ * - enroll.lock.wait: 강의 행 비관적 잠금(findByIdForUpdate) 대기 시간
+ * - enroll.admission.conflict: 버전 충돌 건수 (result=retried|aborted, aborted는 재시도 소진)
+ * - enroll.outcome: 처리 결과 건수 (status=success|full|error|sold_out|promoted, promoted는 빈자리 대기 승격)
+ * - enroll.queue.depth: 강의별 대기 인원 (courseId, 5초마다 갱신)
+ * 대기열 저장소 연산 시간(enroll.queue.op)은 RedisEnrollQueue·ReactiveRedisEnrollQueue가 기록한다.
+ */
+@Slf4j
+@Component
+public class EnrollMetrics {
+
+    private final MeterRegistry registry;
+    private final EnrollQueue enrollQueue;
+
+    private final Timer enrollRequest;
+    private final Timer processOne;
+    private final Timer processBatch;
+    private final Timer enrollInternal;
+    private final Timer lockWait;
+    private final MultiGauge queueDepth;
+
+    public EnrollMetrics(MeterRegistry registry, EnrollQueue enrollQueue) {
+        this.registry = registry;
+        this.enrollQueue = enrollQueue;
+        this.enrollRequest = Timer.builder("enroll.request").register(registry);
+        this.processOne = Timer.builder("enroll.process").tag("mode", "one").register(registry);
+        this.processBatch = Timer.builder("enroll.process").tag("mode", "batch").register(registry);
+        this.enrollInternal = Timer.builder("enroll.internal").register(registry);
+        this.lockWait = Timer.builder("enroll.lock.wait").register(registry);
+        this.queueDepth = MultiGauge.builder("enroll.queue.depth").register(registry);
+    }
+
+    public Timer enrollRequest() {
+        return enrollRequest;
+    }
+
+    public Timer processOne() {
+        return processOne;
+    }
+
+    public Timer processBatch() {
+        return processBatch;
+    }
+
+    public Timer enrollInternal() {
+        return enrollInternal;
+    }
+
+    public Timer lockWait() {
+        return lockWait;
+    }
+
+    /** 처리 결과 1건 */
+    public void outcome(String status) {
+        Counter.builder("enroll.outcome").tag("status", status).register(registry).increment();
+    }
+
+    /** 수강신청·취소 트랜잭션 버전 충돌 1건 */
+    public void admissionConflict(String result) {
+        Counter.builder("enroll.admission.conflict").tag("result", result).register(registry).increment();
+    }
+
+    /** 활성 강의의 대기 인원 갱신 (대기 인원이 없어진 강의는 지표에서 빠짐) */
+    @Scheduled(fixedDelay = 5000)
+    public void updateQueueDepth() {
+        try {
+            List<MultiGauge.Row<?>> rows = enrollQueue.getActiveCourseIds().stream()
+                    .<MultiGauge.Row<?>>map(id -> MultiGauge.Row.of(Tags.of("courseId", String.valueOf(id)),
+                            enrollQueue.getQueueSize(id)))
+                    .toList();
+            queueDepth.register(rows, true);
+        } catch (Exception e) {
+            log.debug("Enroll queue depth skip: {}", e.getMessage());
+        }
+    }
+}
@@ -2,33 +2,140 @@ package org.example.backend.domain.registration.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.registration.event.EnrollQueuedEvent;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.example.backend.global.config.EnrollQueueProperties.ProcessorMode;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 선착순 수강신청 큐를 주기적으로 처리.
- * 강의별로 한 명씩 꺼내 실제 수강신청 수행.
+ * 선착순 수강신청 큐 처리.
+ * - POLLING: 주기마다 강의별로 한 명씩 꺼내 실제 수강신청 수행.
+ * - EVENT: 큐에 요청이 들어오면 즉시 깨어나, 활성 강의들을 돌아가며 큐가 빌 때까지 처리.
+ *   batchAdmission이면 강의별로 남은 정원만큼 한 트랜잭션에서 일괄 처리.
+ *   spring.threads.virtual.enabled면 처리 스레드도 가상 스레드 (DB·Redis 대기 중 캐리어를 놓음).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class EnrollQueueProcessor {
+public class EnrollQueueProcessor implements SmartLifecycle {
 
-    private final EnrollQueueService enrollQueueService;
+    private final EnrollQueue enrollQueue;
     private final EnrollmentService enrollmentService;
+    private final EnrollQueueProperties properties;
+    private final EnrollDrainMeter drainMeter;
+    private final Environment environment;
 
-    @Scheduled(fixedDelay = 500)
+    /** 큐 등록 신호 (permit이 있으면 처리할 일이 있을 수 있음) */
+    private final Semaphore signal = new Semaphore(0);
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    @Scheduled(fixedDelayString = "${enroll.queue.poll-interval-ms:500}")
     public void processQueues() {
-        Set<String> courseIds = enrollQueueService.getActiveCourseIds();
-        for (String courseIdStr : courseIds) {
+        if (properties.getMode() != ProcessorMode.POLLING) return;
+        Set<Long> courseIds = enrollQueue.getActiveCourseIds();
+        for (Long courseId : courseIds) {
             try {
-                Long courseId = Long.parseLong(courseIdStr);
-                enrollmentService.processOneFromQueue(courseId);
+                if (enrollmentService.processOneFromQueue(courseId)) drainMeter.record(courseId, 1);
             } catch (Exception e) {
                 log.debug("Enroll queue process skip: {}", e.getMessage());
             }
         }
     }
+
+    /** 큐 등록 시 처리 스레드를 깨움 */
+    @EventListener
+    public void onEnqueued(EnrollQueuedEvent event) {
+        wakeUp();
+    }
+
+    public void wakeUp() {
+        if (signal.availablePermits() == 0) signal.release();
+    }
+
+    /** 활성 강의들을 라운드로빈으로 돌며 모든 큐가 빌 때까지 처리. 처리 건수 반환 */
+    public long drainAll() {
+        long processed = 0;
+        boolean progressed = true;
+        while (progressed) {
+            progressed = false;
+            for (Long courseId : enrollQueue.getActiveCourseIds()) {
+                try {
+                    int n = drainCourse(courseId);
+                    if (n > 0) {
+                        processed += n;
+                        progressed = true;
+                    }
+                } catch (Exception e) {
+                    log.debug("Enroll queue process skip: {}", e.getMessage());
+                }
+            }
+        }
+        return processed;
+    }
+
+    /** 한 강의에서 최대 drainBatch명 처리 (일괄 처리 시 한 트랜잭션) */
+    private int drainCourse(Long courseId) {
+        int n = 0;
+        if (properties.isBatchAdmission()) {
+            n = enrollmentService.processBatchFromQueue(courseId, properties.getDrainBatch());
+        } else {
+            while (n < properties.getDrainBatch() && enrollmentService.processOneFromQueue(courseId)) n++;
+        }
+        drainMeter.record(courseId, n);
+        return n;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                signal.tryAcquire(properties.getIdleWaitMs(), TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+                if (running) drainAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("Enroll queue drain skip: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (properties.getMode() != ProcessorMode.EVENT || running) return;
+        running = true;
+        Thread.Builder builder = Threading.VIRTUAL.isActive(environment) ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        worker = builder.name("enroll-queue-drainer").start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = worker;
+        worker = null;
+        if (t == null) return;
+        signal.release();
+        try {
+            t.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 }
@@ -0,0 +1,230 @@
+package org.example.backend.domain.registration.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.registration.event.EnrollQueuedEvent;
+import org.example.backend.domain.registration.event.EnrollSettledEvent;
+import org.example.backend.domain.registration.dto.WaitingPositionResponse;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.example.backend.global.sse.SseSender;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * [Student] 수강신청 실시간 알림 (SSE). 상태 폴링(/status, /waiting) 대신 연결 하나로 받는다.
+ * - positions: 대기 중인 강의별 순번·예상 대기 시간 (순번이 바뀔 때만, 연결 직후 한 번)
+ * - result: 처리 결과 (success, full, error). 이 서버에서 처리된 건은 EnrollSettledEvent로 즉시,
+ *   다른 서버에서 처리된 건은 대기열에서 빠진 것을 보고 저장된 결과를 읽어 보낸다.
+ * 주기마다 구독자들이 기다리는 강의별로 순번을 한 번에 조회한다 (사용자별 조회는 연결 직후·IDLE_CHECK_MS마다만).
+ * 계산은 전용 스레드 하나에서, 전송은 SseSender로 연결마다 비동기로 해 느린 클라이언트가 다른 구독자를 막지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollStreamService {
+
+    /** 사용자별 대기 강의 전체 확인·연결 유지(comment) 주기 */
+    private static final long IDLE_CHECK_MS = 15_000;
+    /** 대기열에서 빠진 뒤 결과를 기다리는 최대 시간 */
+    private static final long RESULT_WAIT_MS = 30_000;
+
+    private final EnrollQueue enrollQueue;
+    private final EnrollmentService enrollmentService;
+    private final EnrollDrainMeter drainMeter;
+    private final SseSender sseSender;
+    private final EnrollQueueProperties properties;
+
+    private final Map<Long, UserStream> streams = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("enroll-stream-worker").daemon().factory());
+    private final AtomicBoolean ticking = new AtomicBoolean();
+
+    /** 구독 등록. 같은 사용자가 여러 탭에서 연결하면 모두에게 보냄 */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeoutMs());
+        SseSender.Channel channel = sseSender.open(emitter, c -> unsubscribe(userId, c));
+        UserStream stream = streams.compute(userId, (k, s) -> {
+            if (s == null) s = new UserStream();
+            s.channels.add(channel);
+            return s;
+        });
+        emitter.onCompletion(() -> unsubscribe(userId, channel));
+        emitter.onTimeout(() -> unsubscribe(userId, channel));
+        emitter.onError(e -> unsubscribe(userId, channel));
+        worker.execute(() -> push(userId, stream, true));
+        return emitter;
+    }
+
+    /** 구독자의 대기 순번 변화 확인·전송. 기다리는 강의별로 순번을 한 번에 조회 */
+    @Scheduled(fixedDelayString = "${enroll.queue.stream-push-interval-ms:1000}")
+    public void pushPositions() {
+        if (streams.isEmpty() || !ticking.compareAndSet(false, true)) return;
+        worker.execute(() -> {
+            try {
+                long now = System.currentTimeMillis();
+                Map<Long, Map<Long, Long>> positions = positionsByCourse();
+                streams.forEach((userId, stream) -> {
+                    if (now - stream.lastCheckedAt >= IDLE_CHECK_MS) {
+                        push(userId, stream, false);
+                    } else if (stream.isWaiting()) {
+                        Map<Long, Long> current = new HashMap<>();
+                        for (Long courseId : stream.positions.keySet()) {
+                            long p = positions.getOrDefault(courseId, Map.of()).getOrDefault(userId, 0L);
+                            if (p > 0) current.put(courseId, p);
+                        }
+                        apply(userId, stream, current, false);
+                    }
+                });
+            } catch (Exception e) {
+                log.debug("Enroll stream tick skip: {}", e.getMessage());
+            } finally {
+                ticking.set(false);
+            }
+        });
+    }
+
+    /** 이 서버에서 등록된 요청은 다음 주기를 기다리지 않고 순번 전송 */
+    @EventListener
+    public void onQueued(EnrollQueuedEvent event) {
+        UserStream stream = streams.get(event.userId());
+        if (stream != null) worker.execute(() -> push(event.userId(), stream, false));
+    }
+
+    /** 처리 결과 즉시 전송. 한 연결에라도 전달되면 폴링용으로 저장된 결과는 삭제 */
+    @EventListener
+    public void onSettled(EnrollSettledEvent event) {
+        if (!streams.containsKey(event.userId())) return;
+        worker.execute(() -> {
+            UserStream stream = streams.get(event.userId());
+            if (stream == null) return;
+            stream.positions.remove(event.courseId());
+            stream.awaiting.remove(event.courseId());
+            send(stream, "result", result(event.courseId(), event.status()))
+                    .thenRun(() -> enrollQueue.getAndClearResult(event.userId(), event.courseId()));
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        worker.shutdownNow();
+        streams.values().forEach(s -> s.channels.forEach(SseSender.Channel::complete));
+        streams.clear();
+    }
+
+    /** 대기 중인 구독자들의 강의 → (사용자 ID → 순번). 강의마다 한 번 조회 (worker 스레드) */
+    private Map<Long, Map<Long, Long>> positionsByCourse() {
+        Map<Long, List<Long>> usersByCourse = new HashMap<>();
+        streams.forEach((userId, stream) -> stream.positions.keySet()
+                .forEach(courseId -> usersByCourse.computeIfAbsent(courseId, k -> new ArrayList<>()).add(userId)));
+        Map<Long, Map<Long, Long>> positions = new HashMap<>();
+        usersByCourse.forEach((courseId, userIds) -> positions.put(courseId, enrollQueue.getPositions(courseId, userIds)));
+        return positions;
+    }
+
+    /** 사용자의 대기 강의 전체를 다시 조회해 반영 (연결 직후, 새 요청, IDLE_CHECK_MS마다. worker 스레드) */
+    private void push(Long userId, UserStream stream, boolean force) {
+        stream.lastCheckedAt = System.currentTimeMillis();
+        try {
+            Map<Long, Long> current = enrollmentService.getMyQueuePositions(userId).stream()
+                    .collect(Collectors.toMap(WaitingPositionResponse::getCourseId, WaitingPositionResponse::getPosition));
+            apply(userId, stream, current, force);
+        } catch (Exception e) {
+            log.debug("Enroll stream push skip: {}", e.getMessage());
+        }
+    }
+
+    /** 순번이 바뀌었으면 전송하고, 대기열에서 빠진 강의는 저장된 결과를 확인 (worker 스레드) */
+    private void apply(Long userId, UserStream stream, Map<Long, Long> current, boolean force) {
+        long now = System.currentTimeMillis();
+        for (Long courseId : stream.positions.keySet()) {
+            if (!current.containsKey(courseId)) stream.awaiting.putIfAbsent(courseId, now + RESULT_WAIT_MS);
+        }
+        Iterator<Map.Entry<Long, Long>> it = stream.awaiting.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Long> e = it.next();
+            if (current.containsKey(e.getKey())) {
+                it.remove();
+                continue;
+            }
+            // 결과는 한 연결에라도 전달된 뒤에 지움 (전송 실패·시간 초과면 폴링으로 받을 수 있게 남김)
+            Long courseId = e.getKey();
+            String status = enrollQueue.getResult(userId, courseId);
+            if (status != null) {
+                send(stream, "result", result(courseId, status))
+                        .thenRun(() -> enrollQueue.getAndClearResult(userId, courseId));
+                it.remove();
+            } else if (now >= e.getValue()) {
+                it.remove();
+            }
+        }
+
+        boolean changed = !current.equals(stream.positions);
+        stream.positions = new HashMap<>(current);
+        if (force || changed) {
+            List<WaitingPositionResponse> positions = current.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(e -> WaitingPositionResponse.builder()
+                            .courseId(e.getKey())
+                            .position(e.getValue())
+                            .etaSeconds(drainMeter.etaSeconds(e.getKey(), e.getValue()))
+                            .build())
+                    .toList();
+            send(stream, "positions", Map.of("positions", positions));
+        } else if (now - stream.lastSentAt >= IDLE_CHECK_MS) {
+            stream.channels.forEach(c -> c.send(SseEmitter.event().comment("ping")));
+            stream.lastSentAt = now;
+        }
+    }
+
+    /** 사용자의 모든 연결에 전송 예약. 한 연결에라도 전달되면 완료 */
+    private CompletableFuture<Void> send(UserStream stream, String name, Object data) {
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        for (SseSender.Channel channel : stream.channels) {
+            channel.send(SseEmitter.event().name(name).data(data)).thenRun(() -> delivered.complete(null));
+        }
+        stream.lastSentAt = System.currentTimeMillis();
+        return delivered;
+    }
+
+    private void unsubscribe(Long userId, SseSender.Channel channel) {
+        streams.computeIfPresent(userId, (k, s) -> {
+            s.channels.remove(channel);
+            return s.channels.isEmpty() ? null : s;
+        });
+    }
+
+    private static Map<String, Object> result(Long courseId, String status) {
+        return Map.of("courseId", courseId, "status", status);
+    }
+
+    /** 사용자별 연결과 마지막으로 보낸 상태. channels 외 필드는 worker 스레드에서만 접근 */
+    private static class UserStream {
+        final List<SseSender.Channel> channels = new CopyOnWriteArrayList<>();
+        Map<Long, Long> positions = new HashMap<>();
+        /** 대기열에서 빠졌지만 결과를 아직 보내지 못한 강의 → 대기 마감 시각 */
+        final Map<Long, Long> awaiting = new HashMap<>();
+        long lastSentAt;
+        long lastCheckedAt;
+
+        boolean isWaiting() {
+            return !positions.isEmpty() || !awaiting.isEmpty();
+        }
+    }
+}
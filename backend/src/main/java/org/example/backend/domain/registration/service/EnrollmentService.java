@@ -2,23 +2,40 @@ package org.example.backend.domain.registration.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.course.entity.Course;
+import org.example.backend.domain.course.event.CourseChangedEvent;
 import org.example.backend.domain.course.repository.CourseRepository;
+import org.example.backend.domain.course.service.TimetableMask;
+import org.example.backend.domain.registration.dto.EnrollCartResponse;
+import org.example.backend.domain.registration.dto.EnrollCartResponse.CourseResult;
 import org.example.backend.domain.registration.dto.EnrollResult;
 import org.example.backend.domain.registration.dto.EnrollStatusResponse;
 import org.example.backend.domain.registration.dto.EnrolledStudentResponse;
+import org.example.backend.domain.registration.dto.WaitingPositionResponse;
 import org.example.backend.domain.registration.dto.EnrollmentResponse;
 import org.example.backend.domain.registration.entity.Registration;
+import org.example.backend.domain.registration.event.EnrollRejectedEvent;
+import org.example.backend.domain.registration.event.EnrollSettledEvent;
+import org.example.backend.domain.registration.inventory.SeatInventory;
 import org.example.backend.domain.registration.repository.RegistrationRepository;
-import org.example.backend.domain.registration.service.EnrollQueueService.QueuePosition;
+import org.example.backend.domain.registration.queue.EnrollQueue;
 import org.example.backend.domain.student.entity.Student;
 import org.example.backend.domain.student.repository.StudentRepository;
-import org.example.backend.domain.professor.entity.Professor;
-import org.example.backend.domain.professor.repository.ProfessorRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -31,11 +48,20 @@ public class EnrollmentService {
     private final RegistrationRepository registrationRepository;
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
-    private final ProfessorRepository professorRepository;
-    private final EnrollQueueService enrollQueueService;
+    private final EnrollQueue enrollQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollDrainMeter drainMeter;
+    private final EnrollMetrics metrics;
+    private final EnrollAdmission admission;
+    private final Optional<SeatInventory> inventory;
+    private final SeatWaitlistService seatWaitlist;
 
     /** [Student] 수강신청 요청 → 큐에만 넣고 즉시 반환 (실제 처리들은 스케줄러가 순서대로 수행) */
     public EnrollResult enroll(Long studentUserId, Long courseId) {
+        return metrics.enrollRequest().record(() -> enqueueRequest(studentUserId, courseId));
+    }
+
+    private EnrollResult enqueueRequest(Long studentUserId, Long courseId) {
         Student student = studentRepository.findByUserId(studentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
 
@@ -53,30 +79,265 @@ public class EnrollmentService {
         if (afterCredits > student.getMaxCredits()) {
             throw new IllegalArgumentException("신청 가능한 최대 학점을 초과합니다.");
         }
+        if (TimetableMask.overlaps(student.getScheduleMask(), course.getScheduleMask())) {
+            throw new IllegalArgumentException("수강 시간이 겹치는 강의가 있습니다.");
+        }
 
-        long position = enrollQueueService.enqueue(courseId, studentUserId);
+        long position = enrollQueue.enqueue(courseId, studentUserId,
+                course.getCapacity() - course.getCurrentEnrollment());
+        if (position == EnrollQueue.SOLD_OUT) {
+            soldOut(courseId, studentUserId);
+            return EnrollResult.soldOut();
+        }
         return EnrollResult.waitlist(position);
     }
 
-    /** 큐에서 한 건 꺼내 실제 수강신청 처리 (스케줄러에서 호출) */
-    @Transactional
-    public void processOneFromQueue(Long courseId) {
-        Long userId = enrollQueueService.popOne(courseId);
-        if (userId == null) return;
+    /**
+     * [Student] 장바구니 수강신청 → 여러 강의 대기열에 한 번에 등록.
+     * 학생·강의·기존 신청 내역을 각각 한 번에 조회하고, 신청 가능한 강의의 학점 합계를 한 번 검사한 뒤 한꺼번에 큐에 넣는다.
+     * 강의별 거절 사유(없는 강의, 이미 신청, 대상 학년 아님, 기존 신청이나 장바구니 앞 강의와 시간 겹침)는 결과에 담고,
+     * 학점 합계 초과는 전체를 거절한다.
+     */
+    public EnrollCartResponse enrollCart(Long studentUserId, List<Long> courseIds) {
+        Student student = studentRepository.findByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        Set<Long> ids = new LinkedHashSet<>(courseIds);
+        Map<Long, Course> courses = courseRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Course::getId, c -> c));
+        Set<Long> registered = new HashSet<>(
+                registrationRepository.findCourseIdsByStudentIdAndCourseIdIn(student.getId(), ids));
+
+        Map<Long, CourseResult> results = new LinkedHashMap<>();
+        Map<Long, Integer> remainingSeats = new LinkedHashMap<>();
+        int credits = student.getCurrentCredits();
+        long timetable = student.getScheduleMask();
+        for (Long courseId : ids) {
+            Course course = courses.get(courseId);
+            if (course == null) {
+                results.put(courseId, CourseResult.rejected(courseId, "강의를 찾을 수 없습니다."));
+            } else if (registered.contains(courseId)) {
+                results.put(courseId, CourseResult.rejected(courseId, "이미 수강신청한 강의입니다."));
+            } else if (!course.getTargetGrade().equals(student.getGrade())) {
+                results.put(courseId, CourseResult.rejected(courseId, "대상 학년이 아닙니다."));
+            } else if (TimetableMask.overlaps(timetable, course.getScheduleMask())) {
+                results.put(courseId, CourseResult.rejected(courseId, "수강 시간이 겹치는 강의가 있습니다."));
+            } else {
+                results.put(courseId, null);
+                remainingSeats.put(courseId, course.getCapacity() - course.getCurrentEnrollment());
+                credits += course.getCredit();
+                timetable |= course.getScheduleMask();
+            }
+        }
+        if (credits > student.getMaxCredits()) {
+            throw new IllegalArgumentException("신청 가능한 최대 학점을 초과합니다.");
+        }
+
+        enrollQueue.enqueueAll(studentUserId, remainingSeats).forEach((courseId, position) -> {
+            if (position == EnrollQueue.SOLD_OUT) soldOut(courseId, studentUserId);
+            results.put(courseId, CourseResult.of(courseId, position));
+        });
+        return EnrollCartResponse.builder().results(new ArrayList<>(results.values())).build();
+    }
+
+    /** 큐에서 한 건 꺼내 실제 수강신청 처리 (스케줄러에서 호출). 꺼낸 요청이 없으면 false */
+    public boolean processOneFromQueue(Long courseId) {
+        return metrics.processOne().record(() -> processOne(courseId));
+    }
+
+    private boolean processOne(Long courseId) {
+        Long userId = enrollQueue.popOne(courseId);
+        if (userId == null) return false;
+        settle(userId, courseId, admit(userId, courseId));
+        return true;
+    }
+
+    /** 한 명 수강신청 후 결과 (success, full, error). 실패하면 좌석 미러를 되돌림 */
+    private String admit(Long userId, Long courseId) {
         try {
             enrollInternal(userId, courseId);
-            enrollQueueService.setResult(userId, courseId, "success");
+            return "success";
         } catch (IllegalArgumentException e) {
             String msg = e.getMessage();
-            enrollQueueService.setResult(userId, courseId, msg != null && msg.contains("마감") ? "full" : "error");
+            boolean full = msg != null && msg.contains("마감");
+            if (full) enrollQueue.syncSeats(courseId, 0);
+            else enrollQueue.adjustSeats(courseId, 1);
+            return full ? "full" : "error";
         } catch (Exception e) {
-            enrollQueueService.setResult(userId, courseId, "error");
+            enrollQueue.adjustSeats(courseId, 1);
+            return "error";
         }
     }
 
-    /** 실제 DB 수강신청 (정원·중복 등 검사) */
-    @Transactional
+    /**
+     * 큐에서 여러 명을 꺼내 한 트랜잭션에서 처리 (스케줄러에서 호출).
+     * 남은 정원만큼 꺼낸 뒤 강의 행을 한 번만 조회(잠금)해 메모리에서 검증하고 수강신청 내역을 한꺼번에 저장한다.
+     * 버전 충돌이면 꺼낸 학생 그대로 다시 검증한다. 학생별 결과는 커밋 후에 기록하고, 실패하면 모두 error. 꺼낸 인원 수 반환.
+     */
+    public int processBatchFromQueue(Long courseId, int maxBatch) {
+        return metrics.processBatch().record(() -> processBatch(courseId, maxBatch));
+    }
+
+    private int processBatch(Long courseId, int maxBatch) {
+        if (inventory.isPresent()) return processBatchFromInventory(courseId, maxBatch, inventory.get());
+        int free = courseRepository.findById(courseId)
+                .map(c -> c.getCapacity() - c.getCurrentEnrollment())
+                .orElse(0);
+        List<Long> userIds = enrollQueue.popMany(courseId, free > 0 ? Math.min(free, maxBatch) : maxBatch);
+        if (userIds.isEmpty()) return 0;
+
+        BatchResult batch;
+        try {
+            batch = admission.execute(() -> admitBatch(courseId, userIds));
+        } catch (Exception e) {
+            enrollQueue.adjustSeats(courseId, userIds.size());
+            userIds.forEach(uid -> settle(uid, courseId, "error"));
+            return userIds.size();
+        }
+        if (batch.remainingSeats() == null) enrollQueue.clearSeats(courseId);
+        else enrollQueue.syncSeats(courseId, batch.remainingSeats());
+        batch.results().forEach((uid, result) -> settle(uid, courseId, result));
+        return userIds.size();
+    }
+
+    /** 메모리 좌석 재고 사용 시: 남은 좌석만큼 꺼내 한 명씩 메모리에서 승인 (DB 기록은 SeatInventory가 모아서) */
+    private int processBatchFromInventory(Long courseId, int maxBatch, SeatInventory seats) {
+        int free = seats.remainingSeats(courseId);
+        List<Long> userIds = enrollQueue.popMany(courseId, free > 0 ? Math.min(free, maxBatch) : maxBatch);
+        userIds.forEach(uid -> settle(uid, courseId, admit(uid, courseId)));
+        return userIds.size();
+    }
+
+    /** 꺼낸 학생들 검증·저장 (admission 트랜잭션 안, 재시도마다 새로 검증) */
+    private BatchResult admitBatch(Long courseId, List<Long> userIds) {
+        Map<Long, String> results = new LinkedHashMap<>();
+        userIds.forEach(uid -> results.put(uid, "error"));
+        Course course = admission.loadCourse(courseId).orElse(null);
+        if (course == null) return new BatchResult(results, null);
+
+        Map<Long, Student> students = studentRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(st -> st.getUser().getId(), st -> st));
+        Set<Long> registered = new HashSet<>(registrationRepository.findStudentIdsByCourseIdAndStudentIdIn(
+                courseId, students.values().stream().map(Student::getId).toList()));
+
+        List<Registration> regs = new ArrayList<>();
+        List<Student> admitted = new ArrayList<>();
+        int enrolled = course.getCurrentEnrollment();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long uid : userIds) {
+            Student student = students.get(uid);
+            if (student == null || !registered.add(student.getId())) continue;
+            if (enrolled >= course.getCapacity()) {
+                results.put(uid, "full");
+                continue;
+            }
+            if (!course.getTargetGrade().equals(student.getGrade())) continue;
+            if (student.getCurrentCredits() + course.getCredit() > student.getMaxCredits()) continue;
+            if (TimetableMask.overlaps(student.getScheduleMask(), course.getScheduleMask())) continue;
+
+            regs.add(Registration.builder()
+                    .student(student)
+                    .course(course)
+                    .createdAt(now)
+                    .build());
+            student.setCurrentCredits(student.getCurrentCredits() + course.getCredit());
+            student.setScheduleMask(student.getScheduleMask() | course.getScheduleMask());
+            admitted.add(student);
+            enrolled++;
+            results.put(uid, "success");
+        }
+
+        if (!regs.isEmpty()) {
+            registrationRepository.saveAll(regs);
+            course.setCurrentEnrollment(enrolled);
+            courseRepository.save(course);
+            studentRepository.saveAll(admitted);
+            enrollmentChanged(courseId, regs.size());
+        }
+        return new BatchResult(results, course.getCapacity() - enrolled);
+    }
+
+    /** 일괄 처리 결과: 학생별 결과와 커밋 후 남은 좌석 (강의가 없으면 null) */
+    private record BatchResult(Map<Long, String> results, Integer remainingSeats) {
+    }
+
+    /** 처리 결과 저장(폴링용) 후 결과 확정 이벤트 발행 (실시간 알림용) */
+    private void settle(Long userId, Long courseId, String status) {
+        metrics.outcome(status);
+        enrollQueue.setResult(userId, courseId, status);
+        eventPublisher.publishEvent(new EnrollSettledEvent(courseId, userId, status));
+    }
+
+    /** 매진으로 대기열 등록 거절 */
+    private void soldOut(Long courseId, Long userId) {
+        metrics.outcome("sold_out");
+        eventPublisher.publishEvent(new EnrollRejectedEvent(courseId, userId, "sold_out"));
+    }
+
+    /** 신청 인원 변경 알림 (강의 목록 캐시는 커밋 후 인원을 다시 읽고, 현황판은 delta를 더함) */
+    private void enrollmentChanged(Long courseId, int delta) {
+        eventPublisher.publishEvent(CourseChangedEvent.enrollment(courseId, delta));
+    }
+
+    /** 커밋 후 남은 좌석 미러를 강의 값으로 맞춤 */
+    private void syncSeatsAfterCommit(Course course) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enrollQueue.syncSeats(course.getId(), course.getCapacity() - course.getCurrentEnrollment());
+            }
+        });
+    }
+
+    /**
+     * 실제 수강신청 (정원·중복 등 검사). 자체 트랜잭션에서 실행하고 버전 충돌이면 재시도.
+     * 메모리 좌석 재고를 쓰면 강의 행을 건드리지 않고 메모리에서 승인한다 (DB 기록은 지연).
+     */
     public void enrollInternal(Long studentUserId, Long courseId) {
+        metrics.enrollInternal().record(() -> {
+            if (inventory.isPresent()) {
+                inventory.get().admit(studentUserId, courseId);
+                return;
+            }
+            admission.run(() -> {
+                if (admission.isConditional()) insertRegistrationConditional(studentUserId, courseId);
+                else insertRegistration(studentUserId, courseId);
+            });
+        });
+    }
+
+    /**
+     * 조건부 UPDATE로 수강신청 (CONDITIONAL). 강의·학생 엔티티를 읽거나 잠그지 않고, 반영된 행 수로 학점 초과·시간 겹침·마감을 판단한다.
+     * 강의 행 갱신을 마지막에 두어 인기 강의 행 잠금은 커밋 직전부터만 잡는다 (마감이면 앞의 학점·내역 반영은 롤백).
+     */
+    private void insertRegistrationConditional(Long studentUserId, Long courseId) {
+        StudentRepository.AdmissionView student = studentRepository.findAdmissionViewByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        if (registrationRepository.existsByStudentIdAndCourseId(student.getId(), courseId)) {
+            throw new IllegalArgumentException("이미 수강신청한 강의입니다.");
+        }
+        CourseRepository.AdmissionView course = courseRepository.findAdmissionViewById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
+        if (!course.getTargetGrade().equals(student.getGrade())) {
+            throw new IllegalArgumentException("대상 학년이 아닙니다.");
+        }
+        if (TimetableMask.overlaps(student.getScheduleMask(), course.getScheduleMask())) {
+            throw new IllegalArgumentException("수강 시간이 겹치는 강의가 있습니다.");
+        }
+        if (studentRepository.addCreditsIfWithinMax(student.getId(), course.getCredit(), course.getScheduleMask()) == 0) {
+            throw new IllegalArgumentException("신청 가능한 최대 학점을 초과합니다.");
+        }
+        registrationRepository.save(Registration.builder()
+                .student(studentRepository.getReferenceById(student.getId()))
+                .course(courseRepository.getReferenceById(courseId))
+                .createdAt(LocalDateTime.now())
+                .build());
+        if (courseRepository.incrementEnrollmentIfAvailable(courseId) == 0) {
+            throw new IllegalArgumentException("수강 정원이 마감되었습니다.");
+        }
+        enrollmentChanged(courseId, 1);
+    }
+
+    private void insertRegistration(Long studentUserId, Long courseId) {
         Student student = studentRepository.findByUserId(studentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
 
@@ -84,7 +345,7 @@ public class EnrollmentService {
             throw new IllegalArgumentException("이미 수강신청한 강의입니다.");
         }
 
-        Course course = courseRepository.findByIdForUpdate(courseId)
+        Course course = admission.loadCourse(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
 
         if (course.getCurrentEnrollment() >= course.getCapacity()) {
@@ -97,6 +358,9 @@ public class EnrollmentService {
         if (afterCredits > student.getMaxCredits()) {
             throw new IllegalArgumentException("신청 가능한 최대 학점을 초과합니다.");
         }
+        if (TimetableMask.overlaps(student.getScheduleMask(), course.getScheduleMask())) {
+            throw new IllegalArgumentException("수강 시간이 겹치는 강의가 있습니다.");
+        }
 
         Registration reg = Registration.builder()
                 .student(student)
@@ -109,7 +373,9 @@ public class EnrollmentService {
         courseRepository.save(course);
 
         student.setCurrentCredits(student.getCurrentCredits() + course.getCredit());
+        student.setScheduleMask(student.getScheduleMask() | course.getScheduleMask());
         studentRepository.save(student);
+        enrollmentChanged(courseId, 1);
     }
 
     /** [Student] 수강신청 상태 조회 (폴링용) */
@@ -120,89 +386,120 @@ public class EnrollmentService {
         if (registrationRepository.existsByStudentIdAndCourseId(student.getId(), courseId)) {
             return EnrollStatusResponse.builder().status("enrolled").build();
         }
-        long pos = enrollQueueService.getPosition(courseId, studentUserId);
+        long pos = enrollQueue.getPosition(courseId, studentUserId);
         if (pos > 0) {
-            return EnrollStatusResponse.builder().status("pending").position(pos).build();
+            return EnrollStatusResponse.builder()
+                    .status("pending")
+                    .position(pos)
+                    .etaSeconds(drainMeter.etaSeconds(courseId, pos))
+                    .build();
         }
-        String result = enrollQueueService.getAndClearResult(studentUserId, courseId);
+        String result = enrollQueue.getAndClearResult(studentUserId, courseId);
         if (result != null) return EnrollStatusResponse.builder().status(result).build();
         return EnrollStatusResponse.builder().status("none").build();
     }
 
-    /** [Student] 수강신청 취소 */
-    @Transactional
+    /**
+     * [Student] 수강신청 취소. 나온 자리는 같은 트랜잭션에서 빈자리 대기 명단 앞 학생에게 넘어간다.
+     * 버전 충돌로 재시도가 모두 실패하면 OptimisticLockingFailureException (409)
+     */
     public void cancel(Long studentUserId, Long courseId) {
+        IntSupplier dbCancel = () -> admission.execute(() -> admission.isConditional()
+                ? deleteRegistrationConditional(studentUserId, courseId)
+                : deleteRegistration(studentUserId, courseId));
+        if (inventory.isEmpty()) {
+            dbCancel.getAsInt();
+            return;
+        }
+        inventory.get().cancel(studentUserId, courseId, dbCancel);
+        seatWaitlist.promoteFromInventory(courseId);
+    }
+
+    /**
+     * 조건부 UPDATE로 취소 (CONDITIONAL). 내역 삭제 → 학점 반환·시간표 재계산 → 강의 인원 감소 → 빈자리 대기 승격 순.
+     * 실제로 줄어든 강의 인원 (0이면 빈자리가 생기지 않음)
+     */
+    private int deleteRegistrationConditional(Long studentUserId, Long courseId) {
+        StudentRepository.AdmissionView student = studentRepository.findAdmissionViewByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        CourseRepository.AdmissionView course = courseRepository.findAdmissionViewById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
+        if (registrationRepository.deleteByStudentIdAndCourseId(student.getId(), courseId) == 0) {
+            throw new IllegalArgumentException("수강신청 내역을 찾을 수 없습니다.");
+        }
+        studentRepository.subtractCredits(student.getId(), course.getCredit(), remainingTimetable(student.getId(), courseId));
+        // 인원이 이미 0이라 줄지 않았으면 빈자리가 생긴 것이 아니므로 승격하지 않음
+        int freed = courseRepository.decrementEnrollment(courseId);
+        int promoted = freed > 0 && inventory.isEmpty() ? seatWaitlist.promote(courseId) : 0;
+        enrollmentChanged(courseId, promoted - freed);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enrollQueue.adjustSeats(courseId, freed - promoted);
+            }
+        });
+        return freed;
+    }
+
+    /** 강의 행을 읽어 취소. 줄어든 강의 인원 (항상 1) */
+    private int deleteRegistration(Long studentUserId, Long courseId) {
         Student student = studentRepository.findByUserId(studentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
         Registration reg = registrationRepository.findByStudentIdAndCourseId(student.getId(), courseId)
                 .orElseThrow(() -> new IllegalArgumentException("수강신청 내역을 찾을 수 없습니다."));
         int creditToReturn = reg.getCourse().getCredit();
 
-        Course course = courseRepository.findByIdForUpdate(courseId)
+        Course course = admission.loadCourse(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
         course.setCurrentEnrollment(course.getCurrentEnrollment() - 1);
         courseRepository.save(course);
+        int promoted = inventory.isEmpty() ? seatWaitlist.promote(course) : 0;
+        syncSeatsAfterCommit(course);
 
         student.setCurrentCredits(student.getCurrentCredits() - creditToReturn);
+        student.setScheduleMask(remainingTimetable(student.getId(), courseId));
         studentRepository.save(student);
 
         registrationRepository.delete(reg);
+        enrollmentChanged(courseId, promoted - 1);
+        return 1;
     }
 
-    /** [Student] 내 요청 대기 순번 목록 (강의별) */
-    public List<QueuePosition> getMyQueuePositions(Long studentUserId) {
-        return enrollQueueService.getMyQueuePositions(studentUserId);
+    /** courseId를 취소한 뒤의 시간표 (남은 신청 강의로 다시 계산해, 겹쳐 있던 칸도 정확히 남김) */
+    private long remainingTimetable(Long studentId, Long courseId) {
+        return TimetableMask.union(registrationRepository.findScheduleMasksByStudentIdAndCourseIdNot(studentId, courseId));
+    }
+
+    /** [Student] 내 요청 대기 순번·예상 대기 시간 목록 (강의별) */
+    public List<WaitingPositionResponse> getMyQueuePositions(Long studentUserId) {
+        return enrollQueue.getMyQueuePositions(studentUserId).stream()
+                .map(p -> WaitingPositionResponse.builder()
+                        .courseId(p.courseId())
+                        .position(p.position())
+                        .etaSeconds(drainMeter.etaSeconds(p.courseId(), p.position()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     /** [Student] 대기열 포기 (요청 큐에서 제거) */
     public void leaveQueue(Long studentUserId, Long courseId) {
-        enrollQueueService.removeFromQueue(courseId, studentUserId);
+        enrollQueue.removeFromQueue(courseId, studentUserId);
     }
 
-    /** [Student] 내 수강 내역 조회 */
+    /** [Student] 내 수강 내역 조회 (강의·교수명까지 한 문장) */
     @Transactional(readOnly = true)
     public List<EnrollmentResponse> getMyEnrollments(Long studentUserId) {
-        Student student = studentRepository.findByUserId(studentUserId)
-                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
-        return registrationRepository.findByStudentIdOrderByCreatedAtDesc(student.getId()).stream()
-                .map(this::toEnrollmentResponse)
-                .collect(Collectors.toList());
+        return registrationRepository.findEnrollmentResponsesByStudentUserId(studentUserId);
     }
 
-    /** [Professor] 강의별 수강생 명단 */
+    /** [Professor] 강의별 수강생 명단 (본인 강의 확인 한 문장 + 명단 한 문장) */
     @Transactional(readOnly = true)
     public List<EnrolledStudentResponse> getStudentsByCourse(Long professorUserId, Long courseId) {
-        Professor professor = professorRepository.findByUserId(professorUserId)
-                .orElseThrow(() -> new IllegalArgumentException("교수 정보를 찾을 수 없습니다."));
-        Course course = courseRepository.findById(courseId)
+        Long ownerUserId = courseRepository.findProfessorUserIdById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
-        if (!course.getProfessor().getId().equals(professor.getId())) {
+        if (!ownerUserId.equals(professorUserId)) {
             throw new IllegalArgumentException("본인 강의의 수강생만 조회할 수 있습니다.");
         }
-        return registrationRepository.findByCourseId(courseId).stream()
-                .map(reg -> EnrolledStudentResponse.builder()
-                        .registrationId(reg.getId())
-                        .studentId(reg.getStudent().getId())
-                        .studentNumber(reg.getStudent().getStudentNumber())
-                        .studentName(reg.getStudent().getUser().getName())
-                        .grade(reg.getStudent().getGrade())
-                        .enrolledAt(reg.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
-    }
-
-    private EnrollmentResponse toEnrollmentResponse(Registration reg) {
-        Course c = reg.getCourse();
-        return EnrollmentResponse.builder()
-                .registrationId(reg.getId())
-                .courseId(c.getId())
-                .courseCode(c.getCourseCode())
-                .title(c.getTitle())
-                .category(c.getCategory())
-                .credit(c.getCredit())
-                .schedule(c.getSchedule())
-                .professorName(c.getProfessor().getUser().getName())
-                .enrolledAt(reg.getCreatedAt())
-                .build();
+        return registrationRepository.findEnrolledStudentResponsesByCourseId(courseId);
     }
 }
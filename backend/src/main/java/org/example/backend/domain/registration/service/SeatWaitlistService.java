@@ -0,0 +1,204 @@
+package org.example.backend.domain.registration.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.course.entity.Course;
+import org.example.backend.domain.course.repository.CourseRepository;
+import org.example.backend.domain.course.service.TimetableMask;
+import org.example.backend.domain.registration.dto.WaitingPositionResponse;
+import org.example.backend.domain.registration.entity.Registration;
+import org.example.backend.domain.registration.entity.SeatWaitlist;
+import org.example.backend.domain.registration.event.EnrollSettledEvent;
+import org.example.backend.domain.registration.inventory.SeatInventory;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.domain.registration.repository.RegistrationRepository;
+import org.example.backend.domain.registration.repository.SeatWaitlistRepository;
+import org.example.backend.domain.student.entity.Student;
+import org.example.backend.domain.student.repository.StudentRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 빈자리 대기 명단. 정원이 찬 강의에 대기를 걸어 두면, 취소나 정원 증가로 자리가 날 때
+ * 같은 트랜잭션에서 대기 순서대로 자동 수강신청하고 커밋 후 결과(success)를 저장·알린다 (폴링과 실시간 알림 모두).
+ * 학점 초과나 시간 겹침으로 지금 받을 수 없는 학생은 건너뛰고 대기를 유지한다.
+ * 메모리 좌석 재고를 쓰면 DB 트랜잭션 대신 재고에서 승인한다 (promoteFromInventory).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatWaitlistService {
+
+    private final SeatWaitlistRepository waitlistRepository;
+    private final RegistrationRepository registrationRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollQueue enrollQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollMetrics metrics;
+    private final Optional<SeatInventory> inventory;
+
+    /** [Student] 빈자리 대기 등록. 대기 순번 반환 */
+    @Transactional
+    public WaitingPositionResponse join(Long studentUserId, Long courseId) {
+        Student student = studentRepository.findByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다."));
+        if (registrationRepository.existsByStudentIdAndCourseId(student.getId(), courseId)) {
+            throw new IllegalArgumentException("이미 수강신청한 강의입니다.");
+        }
+        if (!course.getTargetGrade().equals(student.getGrade())) {
+            throw new IllegalArgumentException("대상 학년이 아닙니다.");
+        }
+        if (student.getCurrentCredits() + course.getCredit() > student.getMaxCredits()) {
+            throw new IllegalArgumentException("신청 가능한 최대 학점을 초과합니다.");
+        }
+        if (TimetableMask.overlaps(student.getScheduleMask(), course.getScheduleMask())) {
+            throw new IllegalArgumentException("수강 시간이 겹치는 강의가 있습니다.");
+        }
+        if (course.getCurrentEnrollment() < course.getCapacity()) {
+            throw new IllegalArgumentException("빈자리가 있는 강의입니다. 바로 수강신청해 주세요.");
+        }
+        if (waitlistRepository.existsByStudentIdAndCourseId(student.getId(), courseId)) {
+            throw new IllegalArgumentException("이미 빈자리 대기 중인 강의입니다.");
+        }
+        SeatWaitlist entry = waitlistRepository.save(SeatWaitlist.builder()
+                .student(student)
+                .course(course)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return toPosition(entry);
+    }
+
+    /** [Student] 빈자리 대기 취소 */
+    @Transactional
+    public void leave(Long studentUserId, Long courseId) {
+        Student student = studentRepository.findByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        SeatWaitlist entry = waitlistRepository.findByStudentIdAndCourseId(student.getId(), courseId)
+                .orElseThrow(() -> new IllegalArgumentException("빈자리 대기 내역을 찾을 수 없습니다."));
+        waitlistRepository.delete(entry);
+    }
+
+    /** [Student] 내 빈자리 대기 목록 (강의별 순번) */
+    @Transactional(readOnly = true)
+    public List<WaitingPositionResponse> getMyWaitlist(Long studentUserId) {
+        Student student = studentRepository.findByUserId(studentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("학생 정보를 찾을 수 없습니다."));
+        return waitlistRepository.findByStudentIdOrderByIdAsc(student.getId()).stream()
+                .map(this::toPosition)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 빈자리만큼 대기 순서대로 수강신청 (호출 측 트랜잭션 안, 강의 행은 호출 측이 잠금·버전으로 보호).
+     * 승격된 인원 수 반환.
+     */
+    public int promote(Course course) {
+        int free = course.getCapacity() - course.getCurrentEnrollment();
+        if (free <= 0) return 0;
+        List<Long> promoted = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (SeatWaitlist entry : waitlistRepository.findByCourseIdWithStudent(course.getId())) {
+            if (promoted.size() >= free) break;
+            Student student = entry.getStudent();
+            if (registrationRepository.existsByStudentIdAndCourseId(student.getId(), course.getId())) {
+                waitlistRepository.delete(entry);
+                continue;
+            }
+            if (student.getCurrentCredits() + course.getCredit() > student.getMaxCredits()) continue;
+            if (TimetableMask.overlaps(student.getScheduleMask(), course.getScheduleMask())) continue;
+
+            registrationRepository.save(Registration.builder()
+                    .student(student)
+                    .course(course)
+                    .createdAt(now)
+                    .build());
+            student.setCurrentCredits(student.getCurrentCredits() + course.getCredit());
+            student.setScheduleMask(student.getScheduleMask() | course.getScheduleMask());
+            studentRepository.save(student);
+            waitlistRepository.delete(entry);
+            promoted.add(student.getUser().getId());
+        }
+        if (promoted.isEmpty()) return 0;
+        course.setCurrentEnrollment(course.getCurrentEnrollment() + promoted.size());
+        courseRepository.save(course);
+        notifyAfterCommit(course.getId(), promoted);
+        return promoted.size();
+    }
+
+    /** 대기 명단이 있으면 강의를 읽어 승격 (조건부 UPDATE 취소 경로용, 버전으로 보호) */
+    public int promote(Long courseId) {
+        if (!waitlistRepository.existsByCourseId(courseId)) return 0;
+        return courseRepository.findById(courseId).map(this::promote).orElse(0);
+    }
+
+    /** 정원 증가 시 (강의 수정 트랜잭션 안). 메모리 좌석 재고를 쓰면 커밋 후 재고를 다시 읽고 승격 */
+    public void promoteOnCapacityIncrease(Course course) {
+        if (inventory.isEmpty()) {
+            promote(course);
+            return;
+        }
+        Long courseId = course.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inventory.get().refresh(courseId);
+                promoteFromInventory(courseId);
+            }
+        });
+    }
+
+    /** 메모리 좌석 재고에서 대기 순서대로 승인 (트랜잭션 밖, 취소·정원 증가 후) */
+    public void promoteFromInventory(Long courseId) {
+        SeatInventory seats = inventory.orElseThrow();
+        for (SeatWaitlistRepository.EntryView entry : waitlistRepository.findEntriesByCourseId(courseId)) {
+            if (seats.remainingSeats(courseId) <= 0) return;
+            try {
+                seats.admit(entry.getUserId(), courseId);
+            } catch (IllegalArgumentException e) {
+                String msg = e.getMessage();
+                if (msg != null && msg.contains("마감")) return;
+                if (msg != null && msg.contains("이미")) waitlistRepository.deleteById(entry.getId());
+                continue;
+            }
+            waitlistRepository.deleteById(entry.getId());
+            notify(courseId, entry.getUserId());
+        }
+    }
+
+    private void notifyAfterCommit(Long courseId, List<Long> userIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userIds.forEach(uid -> notify(courseId, uid));
+            }
+        });
+    }
+
+    /** 승격 알림. EnrollmentService.settle처럼 폴링용 결과를 저장하고 실시간 알림의 result 이벤트(success)를 발행 */
+    private void notify(Long courseId, Long userId) {
+        metrics.outcome("promoted");
+        log.debug("Seat waitlist promoted user={} course={}", userId, courseId);
+        enrollQueue.setResult(userId, courseId, "success");
+        eventPublisher.publishEvent(new EnrollSettledEvent(courseId, userId, "success"));
+    }
+
+    private WaitingPositionResponse toPosition(SeatWaitlist entry) {
+        Long courseId = entry.getCourse().getId();
+        return WaitingPositionResponse.builder()
+                .courseId(courseId)
+                .position(waitlistRepository.countByCourseIdAndIdLessThanEqual(courseId, entry.getId()))
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.example.backend.domain.department.entity.Department;
 import org.example.backend.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 학생 엔티티.
@@ -48,4 +49,15 @@ public class Student {
     /** 현재 신청 완료한 학점 (검증용) */
     @Column(name = "current_credits", nullable = false)
     private Integer currentCredits;
+
+    /** 신청한 강의들의 시간표 비트마스크 합 (시간 겹침 검사용, 신청·취소 시 갱신) */
+    @ColumnDefault("0")
+    @Column(name = "schedule_mask", nullable = false)
+    private Long scheduleMask;
+
+    /** 낙관적 잠금 버전 (수정될 때마다 증가, 커밋 시 읽은 값과 다르면 충돌) */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
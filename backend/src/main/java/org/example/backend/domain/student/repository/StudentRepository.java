@@ -2,7 +2,12 @@ package org.example.backend.domain.student.repository;
 
 import org.example.backend.domain.student.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,5 +17,55 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     Optional<Student> findByUserId(Long userId);
 
+    List<Student> findByUserIdIn(Collection<Long> userIds);
+
     boolean existsByStudentNumber(String studentNumber);
+
+    /** 수강신청 검증용 학생 ID·학년·시간표 (엔티티 로딩 없이) */
+    @Query("select s.id as id, s.grade as grade, s.scheduleMask as scheduleMask from Student s where s.user.id = :userId")
+    Optional<AdmissionView> findAdmissionViewByUserId(@Param("userId") Long userId);
+
+    /** 시간표 비트마스크 (시간 겹치지 않는 강의 필터용) */
+    @Query("select s.scheduleMask from Student s where s.user.id = :userId")
+    Optional<Long> findScheduleMaskByUserId(@Param("userId") Long userId);
+
+    /**
+     * 최대 학점을 넘지 않고 시간표가 겹치지 않을 때만 학점·시간표 추가 (버전도 증가). 반영된 행 수 (0이면 초과 또는 겹침)
+     */
+    @Modifying
+    @Query("update Student s set s.currentCredits = s.currentCredits + :credit, " +
+            "s.scheduleMask = function('BITOR', s.scheduleMask, :mask), s.version = s.version + 1 " +
+            "where s.id = :id and s.currentCredits + :credit <= s.maxCredits " +
+            "and function('BITAND', s.scheduleMask, :mask) = 0")
+    int addCreditsIfWithinMax(@Param("id") Long id, @Param("credit") int credit, @Param("mask") long mask);
+
+    /** 학점·시간표 추가 (버전도 증가, 메모리 좌석 재고의 지연 기록용) */
+    @Modifying
+    @Query("update Student s set s.currentCredits = s.currentCredits + :credit, " +
+            "s.scheduleMask = function('BITOR', s.scheduleMask, :mask), s.version = s.version + 1 " +
+            "where s.id = :id")
+    int addCredits(@Param("id") Long id, @Param("credit") int credit, @Param("mask") long mask);
+
+    /** 학점 반환, 시간표는 남은 강의로 다시 계산한 값으로 (버전도 증가). 반영된 행 수 */
+    @Modifying
+    @Query("update Student s set s.currentCredits = s.currentCredits - :credit, s.scheduleMask = :mask, " +
+            "s.version = s.version + 1 where s.id = :id")
+    int subtractCredits(@Param("id") Long id, @Param("credit") int credit, @Param("mask") long mask);
+
+    /** 강의 시간이 바뀐 뒤 그 강의 수강생들의 시간표를 신청 내역으로 다시 계산 (버전도 증가) */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update students s set schedule_mask = coalesce((" +
+            "select bit_or_agg(c.schedule_mask) from registrations r join courses c on c.id = r.course_id " +
+            "where r.student_id = s.id), 0), version = version + 1 " +
+            "where s.id in (select r.student_id from registrations r where r.course_id = :courseId)",
+            nativeQuery = true)
+    int recomputeScheduleMasksByCourseId(@Param("courseId") Long courseId);
+
+    interface AdmissionView {
+        Long getId();
+
+        Integer getGrade();
+
+        Long getScheduleMask();
+    }
 }
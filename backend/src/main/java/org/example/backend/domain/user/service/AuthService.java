@@ -92,6 +92,7 @@ public class AuthService {
                     .grade(request.getGrade() != null ? request.getGrade() : 1)
                     .maxCredits(request.getMaxCredits() != null ? request.getMaxCredits() : 21)
                     .currentCredits(0)
+                    .scheduleMask(0L)
                     .build();
             studentRepository.save(student);
         } else {
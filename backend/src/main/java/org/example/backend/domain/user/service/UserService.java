@@ -9,6 +9,7 @@ import org.example.backend.domain.user.dto.UserDetailResponse;
 import org.example.backend.domain.user.dto.UserResponse;
 import org.example.backend.domain.user.entity.User;
 import org.example.backend.domain.user.repository.UserRepository;
+import org.example.backend.global.jwt.PrincipalCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -29,6 +30,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final ProfessorRepository professorRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * 내 정보 조회 (마이페이지). 학생/교수에 따라 학번·사번 등 포함.
@@ -71,7 +73,7 @@ public class UserService {
     }
 
     /**
-     * 관리자: 유저 삭제 (User 삭제 시 Student/Professor는 cascade 또는 수동 삭제).
+     * 관리자: 유저 삭제 (User 삭제 시 Student/Professor는 cascade 또는 수동 삭제). 인증 주체 캐시에서도 비움.
      */
     @Transactional
     public void deleteUserByAdmin(Long id) {
@@ -80,6 +82,7 @@ public class UserService {
         studentRepository.findByUserId(user.getId()).ifPresent(studentRepository::delete);
         professorRepository.findByUserId(user.getId()).ifPresent(professorRepository::delete);
         userRepository.delete(user);
+        principalCache.invalidate(user.getId());
     }
 
     private UserResponse toUserResponse(User user) {
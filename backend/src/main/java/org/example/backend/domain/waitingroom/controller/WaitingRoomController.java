@@ -0,0 +1,34 @@
+package org.example.backend.domain.waitingroom.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.waitingroom.dto.WaitingRoomResponse;
+import org.example.backend.domain.waitingroom.service.WaitingRoomService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 접속 대기실. 대기표를 받고 상태를 폴링하다가, 차례가 오면 받은 입장 토큰으로 API를 호출한다.
+ * 입장 토큰은 상태를 조회한 사용자에게 묶이므로, 로그인한 뒤에는 같은 대기표로 다시 받는다.
+ */
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /** 대기표 발급 */
+    @PostMapping("/tickets")
+    public ResponseEntity<WaitingRoomResponse> issueTicket() {
+        return ResponseEntity.ok(waitingRoomService.issueTicket());
+    }
+
+    /** 대기 순번 또는 입장 토큰 (etaSeconds 간격으로 다시 조회하면 충분) */
+    @GetMapping("/status")
+    public ResponseEntity<WaitingRoomResponse> status(@AuthenticationPrincipal User user,
+                                                      @RequestHeader("X-Waiting-Ticket") String ticket) {
+        return ResponseEntity.ok(waitingRoomService.status(ticket, user == null ? null : user.getId()));
+    }
+}
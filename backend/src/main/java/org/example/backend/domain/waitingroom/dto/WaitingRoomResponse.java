@@ -0,0 +1,28 @@
+package org.example.backend.domain.waitingroom.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 접속 대기실 상태 (대기표 발급·폴링 응답).
+ * - waiting: 차례를 기다리는 중 (ticket, position, etaSeconds)
+ * - admitted: 입장 (admissionToken을 X-Admission-Token 헤더로 보냄, expiresInSeconds 후 다시 줄 섬)
+ * - expired: 차례가 지나도록 입장하지 않아 대기표가 무효 (새 대기표 필요)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitingRoomResponse {
+
+    private String status;          // waiting, admitted, expired
+    private String ticket;          // 대기표 (X-Waiting-Ticket 헤더로 상태 조회)
+    private Long position;          // 내 앞 대기 인원 + 1 (waiting일 때)
+    private Long etaSeconds;        // 예상 대기 시간 (초, waiting일 때)
+    private String admissionToken;  // 입장 토큰 (admitted일 때)
+    private Long expiresInSeconds;  // 입장 토큰 남은 유효 시간 (admitted일 때)
+}
@@ -0,0 +1,235 @@
+package org.example.backend.domain.waitingroom.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.backend.domain.waitingroom.dto.WaitingRoomResponse;
+import org.example.backend.global.config.JwtProperties;
+import org.example.backend.global.config.WaitingRoomProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 접속 대기실 (단일 서버, 메모리).
+ * 대기표는 발급 순 번호에 서명을 붙인 값이고, 0.1초마다 초당 admitPerSecond 속도로 다음 번호까지 입장시킨다.
+ * 입장한 인원(받아 가기 전 예약 포함)이 maxActive에 이르면 누군가 나갈 때까지 입장을 멈춘다.
+ * 입장 토큰은 번호·만료 시각·사용자 ID에 서명한 값이라 검증에 조회가 필요 없고, 자리는 idleTimeout 동안 요청이 없으면 비운다.
+ * 로그인한 사용자가 입장 토큰을 받으면 자리가 그 사용자에게 묶여, 다른 사용자는 같은 대기표로 토큰을 받을 수 없다.
+ * 로그인 전에 받은 토큰(사용자 ID 0)은 비로그인 요청에만 쓰이므로, 로그인 후에는 대기표로 다시 받아야 한다.
+ */
+@Service
+public class WaitingRoomService {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final long ADMIT_INTERVAL_MS = 100;
+
+    private final WaitingRoomProperties properties;
+    /** 서명용 Mac 원본 (호출마다 복제. 가상 스레드는 요청마다 새 스레드라 ThreadLocal 재사용이 안 됨) */
+    private final Mac prototype;
+
+    /** 마지막으로 발급한 대기표 번호 */
+    private final AtomicLong lastIssued = new AtomicLong();
+    /** 이 번호까지 입장 차례가 옴 */
+    private volatile long admittedUpTo;
+    /** 대기표 번호 → 입장 자리 (차례가 와서 예약됐거나 입장한 사람) */
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    /** 입장 가능 인원 누적 (스케줄러 스레드에서만 사용) */
+    private double allowance;
+    private long lastAdmitMs = System.currentTimeMillis();
+
+    public WaitingRoomService(WaitingRoomProperties properties, JwtProperties jwtProperties, MeterRegistry registry) {
+        this.properties = properties;
+        String secret = StringUtils.hasText(properties.getSecret())
+                ? properties.getSecret() : jwtProperties.getSecret() + ":waiting-room";
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC);
+        this.prototype = newMac(key);
+
+        Gauge.builder("waiting.room.waiting", this, WaitingRoomService::waitingCount).register(registry);
+        Gauge.builder("waiting.room.active", this, WaitingRoomService::activeCount).register(registry);
+    }
+
+    /** 새 대기표 발급 */
+    public WaitingRoomResponse issueTicket() {
+        long number = lastIssued.incrementAndGet();
+        return waiting(sign("t." + number), number);
+    }
+
+    /**
+     * 대기표 상태. 차례가 왔으면 입장 처리하고 입장 토큰을 준다 (이미 입장했으면 같은 만료 시각으로 다시 발급).
+     * userId는 요청한 사용자 (비로그인이면 null). 다른 사용자에게 묶인 자리를 로그인한 사용자가 요청하면 예외.
+     */
+    public WaitingRoomResponse status(String ticket, Long userId) {
+        long subject = userId == null ? 0 : userId;
+        long number = verifyTicket(ticket);
+        if (number > admittedUpTo) return waiting(ticket, number);
+
+        long now = System.currentTimeMillis();
+        long idle = TimeUnit.SECONDS.toMillis(properties.getIdleTimeoutSeconds());
+        long ttl = TimeUnit.SECONDS.toMillis(properties.getAdmissionTtlSeconds());
+        Slot slot = slots.computeIfPresent(number, (k, s) -> s.expired(now) ? null
+                : !s.allows(subject) ? s
+                : new Slot(now + idle, s.sessionEndsAt() > 0 ? s.sessionEndsAt() : now + ttl,
+                        s.userId() != 0 ? s.userId() : subject));
+        if (slot == null) return WaitingRoomResponse.builder().status("expired").build();
+        if (!slot.allows(subject)) throw new IllegalArgumentException("다른 사용자의 대기표입니다.");
+
+        long expiresAt = TimeUnit.MILLISECONDS.toSeconds(slot.sessionEndsAt());
+        return WaitingRoomResponse.builder()
+                .status("admitted")
+                .ticket(ticket)
+                .admissionToken(sign("a." + number + "." + expiresAt + "." + subject))
+                .expiresInSeconds(Math.max(0, expiresAt - TimeUnit.MILLISECONDS.toSeconds(now)))
+                .build();
+    }
+
+    /**
+     * 입장 토큰이 유효하고 자리가 남아 있으면 true (유휴 만료 시각을 늦춤).
+     * userId는 요청한 사용자 (비로그인이면 null)로, 토큰을 받은 사용자와 같아야 한다.
+     */
+    public boolean enter(String admissionToken, Long userId) {
+        String payload = verified(admissionToken);
+        if (payload == null || !payload.startsWith("a.")) return false;
+        String[] parts = payload.split("\\.");
+        if (parts.length != 4) return false;
+        long number;
+        long expiresAt;
+        long subject;
+        try {
+            number = Long.parseLong(parts[1]);
+            expiresAt = TimeUnit.SECONDS.toMillis(Long.parseLong(parts[2]));
+            subject = Long.parseLong(parts[3]);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (subject != (userId == null ? 0 : userId)) return false;
+        long now = System.currentTimeMillis();
+        if (now >= expiresAt) return false;
+        long idle = TimeUnit.SECONDS.toMillis(properties.getIdleTimeoutSeconds());
+        return slots.computeIfPresent(number, (k, s) -> s.expired(now) || s.sessionEndsAt() == 0 ? null
+                : new Slot(now + idle, s.sessionEndsAt(), s.userId())) != null;
+    }
+
+    /** 만료된 자리를 비우고, 속도와 빈자리만큼 다음 번호를 입장시킴 */
+    @Scheduled(fixedDelay = ADMIT_INTERVAL_MS)
+    public void admit() {
+        if (!properties.isEnabled()) return;
+        long now = System.currentTimeMillis();
+        slots.values().removeIf(s -> s.expired(now));
+
+        double rate = properties.getAdmitPerSecond();
+        allowance = Math.min(allowance + rate * (now - lastAdmitMs) / 1000.0, Math.max(rate, 1));
+        lastAdmitMs = now;
+
+        long free = properties.getMaxActive() - slots.size();
+        long count = Math.min(Math.min((long) allowance, free), lastIssued.get() - admittedUpTo);
+        if (count <= 0) return;
+        long grace = now + TimeUnit.SECONDS.toMillis(properties.getClaimGraceSeconds());
+        long from = admittedUpTo;
+        for (long number = from + 1; number <= from + count; number++) {
+            slots.put(number, new Slot(grace, 0, 0));
+        }
+        admittedUpTo = from + count;
+        allowance -= count;
+    }
+
+    /** 차례를 기다리는 대기표 수 */
+    public long waitingCount() {
+        return Math.max(0, lastIssued.get() - admittedUpTo);
+    }
+
+    /** 입장 중이거나 입장 예약된 인원 */
+    public int activeCount() {
+        return slots.size();
+    }
+
+    private WaitingRoomResponse waiting(String ticket, long number) {
+        long position = Math.max(1, number - admittedUpTo);
+        double rate = properties.getAdmitPerSecond();
+        return WaitingRoomResponse.builder()
+                .status("waiting")
+                .ticket(ticket)
+                .position(position)
+                .etaSeconds(rate > 0 ? (long) Math.ceil(position / rate) : null)
+                .build();
+    }
+
+    private long verifyTicket(String ticket) {
+        String payload = verified(ticket);
+        if (payload != null && payload.startsWith("t.")) {
+            try {
+                long number = Long.parseLong(payload.substring(2));
+                if (number > 0 && number <= lastIssued.get()) return number;
+            } catch (NumberFormatException ignored) {
+                // 아래 예외
+            }
+        }
+        throw new IllegalArgumentException("대기표가 올바르지 않습니다.");
+    }
+
+    /** "payload.서명"에서 서명이 맞으면 payload, 아니면 null */
+    private String verified(String token) {
+        if (token == null) return null;
+        int dot = token.lastIndexOf('.');
+        if (dot <= 0) return null;
+        String payload = token.substring(0, dot);
+        byte[] expected = signature(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? payload : null;
+    }
+
+    private String sign(String payload) {
+        return payload + "." + signature(payload);
+    }
+
+    private String signature(String payload) {
+        byte[] digest = mac().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 입장 자리. idleDeadline까지 요청이 없으면 비움.
+     * sessionEndsAt은 입장 토큰 만료 시각 (0이면 차례만 오고 아직 입장 토큰을 받아 가지 않음).
+     * userId는 자리를 가진 사용자 (0이면 아직 로그인한 사용자가 토큰을 받지 않음).
+     */
+    private record Slot(long idleDeadline, long sessionEndsAt, long userId) {
+
+        boolean expired(long now) {
+            return now >= idleDeadline || (sessionEndsAt > 0 && now >= sessionEndsAt);
+        }
+
+        /** subject가 이 자리의 토큰을 받을 수 있는지 (비로그인 토큰은 비로그인 요청에만 쓰이므로 항상 허용) */
+        boolean allows(long subject) {
+            return subject == 0 || userId == 0 || userId == subject;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.backend.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 수강신청 대기열 처리 설정 (application.properties의 enroll.queue.*).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "enroll.queue")
+public class EnrollQueueProperties {
+
+    /**
+     * 대기열 저장소 (REDIS: 여러 서버 공유, REDIS_REACTIVE: REDIS와 같은 저장소를 Lettuce 비동기 클라이언트로,
+     * MEMORY: 단일 서버 프로세스 메모리)
+     */
+    private Backend backend = Backend.REDIS;
+
+    /** 큐 처리 방식 (POLLING: 주기마다 강의별 1명, EVENT: 등록 즉시 깨어나 큐를 비움) */
+    private ProcessorMode mode = ProcessorMode.EVENT;
+
+    /** POLLING 모드 처리 주기 (밀리초) */
+    private long pollIntervalMs = 500;
+
+    /** EVENT 모드에서 신호가 없을 때 큐를 다시 확인하는 주기 (밀리초, 다른 서버가 넣은 요청 대비) */
+    private long idleWaitMs = 1000;
+
+    /** EVENT 모드에서 한 강의를 연속 처리하는 최대 건수 (강의 간 공정성) */
+    private int drainBatch = 50;
+
+    /** EVENT 모드에서 강의별로 여러 명을 한 트랜잭션에 처리 (false면 한 명씩 개별 트랜잭션) */
+    private boolean batchAdmission = true;
+
+    /** 남은 좌석보다 더 받을 수 있는 대기 인원 (0이면 남은 좌석 수만큼만 대기열 등록, 초과 시 매진 응답) */
+    private int overbooking = 0;
+
+    /** 실시간 알림(SSE) 구독자에게 대기 순번 변화를 확인·전송하는 주기 (밀리초) */
+    private long streamPushIntervalMs = 1000;
+
+    /** 실시간 알림(SSE) 연결 유지 시간 (밀리초, 만료되면 클라이언트가 다시 연결) */
+    private long streamTimeoutMs = 1_800_000;
+
+    /** 실시간 알림(SSE) 전송 한 건의 최대 시간 (밀리초, 앞선 전송 대기 포함. 넘으면 느린 연결로 보고 끊음) */
+    private long streamSendTimeoutMs = 5000;
+
+    /**
+     * 수강신청·취소 시 강의 행 동시성 제어 (PESSIMISTIC: SELECT ... FOR UPDATE, OPTIMISTIC: @Version 검사 후 재시도,
+     * CONDITIONAL: 정원·학점 조건을 건 UPDATE 한 문장, 반영된 행 수로 판단)
+     */
+    private Locking locking = Locking.PESSIMISTIC;
+
+    /** 버전 충돌 재시도 (enroll.queue.retry.*) */
+    private final Retry retry = new Retry();
+
+    /** 메모리 좌석 재고 (enroll.queue.inventory.*) */
+    private final Inventory inventory = new Inventory();
+
+    /** 메모리 대기열 저널 (enroll.queue.journal.*) */
+    private final Journal journal = new Journal();
+
+    @Getter
+    @Setter
+    public static class Journal {
+
+        /** 저널 사용 여부 (MEMORY 백엔드 전용, 재시작 시 대기열·처리 결과 복구) */
+        private boolean enabled = false;
+
+        /** 저널 파일 경로 */
+        private String path = "./data/enroll-queue.journal";
+
+        /** 저널 파일 크기 (MB). 가득 차면 현재 상태 스냅샷으로 새로 씀 */
+        private int sizeMb = 64;
+
+        /** 기록 후 디스크 반영(fsync)까지 기다릴지 여부 (false면 flushIntervalMs 이내 기록은 유실 가능) */
+        private boolean syncCommit = true;
+
+        /** syncCommit=false일 때 fsync 주기 (밀리초) */
+        private long flushIntervalMs = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /** 최대 실행 횟수 (첫 시도 포함). 모두 충돌하면 실패 처리 */
+        private int maxAttempts = 5;
+
+        /** 첫 재시도 전 대기 (밀리초). 재시도마다 두 배, 실제 대기는 절반~전체 사이 임의 값 */
+        private long backoffMs = 5;
+
+        /** 재시도 대기 상한 (밀리초) */
+        private long maxBackoffMs = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Inventory {
+
+        /** 사용 여부 (단일 서버 전용. 좌석·학점을 메모리에서 판단하고 DB에는 모아서 나중에 기록) */
+        private boolean enabled = false;
+
+        /** 쌓인 수강신청 내역을 DB에 기록하는 주기 (밀리초) */
+        private long flushIntervalMs = 200;
+
+        /** 한 트랜잭션에 기록하는 최대 건수 */
+        private int flushBatch = 500;
+
+        /** 메모리 값과 DB 값을 비교해 맞추는 주기 (밀리초) */
+        private long reconcileIntervalMs = 30_000;
+
+        /** 좌석·학점 갱신 잠금 개수 (강의·학생 ID로 나눠 씀, 2의 거듭제곱) */
+        private int stripes = 64;
+    }
+
+    public enum Backend {
+        REDIS,
+        REDIS_REACTIVE,
+        MEMORY
+    }
+
+    public enum Locking {
+        PESSIMISTIC,
+        OPTIMISTIC,
+        CONDITIONAL
+    }
+
+    public enum ProcessorMode {
+        POLLING,
+        EVENT
+    }
+}
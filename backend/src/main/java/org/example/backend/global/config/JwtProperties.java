@@ -20,4 +20,43 @@ public class JwtProperties {
 
     /** 액세스 토큰 만료 시간 (밀리초) */
     private long accessTokenExpirationMs = 86400000; // 24시간
+
+    /** 요청의 인증 주체를 만드는 방식 */
+    private PrincipalSource principalSource = PrincipalSource.DATABASE;
+
+    /** CLAIMS 방식의 사용자 캐시 */
+    private final PrincipalCache principalCache = new PrincipalCache();
+
+    /** 검증된 토큰 캐시 (같은 토큰은 만료 전까지 서명 검증·파싱을 한 번만) */
+    private final TokenCache tokenCache = new TokenCache();
+
+    /**
+     * DATABASE: 요청마다 사용자 조회 (권한도 DB 값).
+     * CLAIMS: 권한·사용자 ID는 검증된 토큰 값으로, 사용자 객체는 캐시에서 (없거나 만료되면 한 번 조회)
+     */
+    public enum PrincipalSource {
+        DATABASE, CLAIMS
+    }
+
+    @Getter
+    @Setter
+    public static class PrincipalCache {
+
+        /** 최대 사용자 수 (넘치면 만료된 항목부터 비움) */
+        private int maxSize = 10000;
+
+        /** 캐시 유지 시간 (초, 지나면 다시 조회) */
+        private long ttlSeconds = 300;
+    }
+
+    @Getter
+    @Setter
+    public static class TokenCache {
+
+        /** 캐시 사용 여부 */
+        private boolean enabled = true;
+
+        /** 최대 토큰 수 (넘치면 만료된 항목부터 비움) */
+        private int maxSize = 100000;
+    }
 }
@@ -0,0 +1,42 @@
+package org.example.backend.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 수강신청 API·대기표 발급 요청 제한 설정 (application.properties의 enroll.rate-limit.*).
+ * 사용자별·전체 토큰 버킷: burst만큼 몰아서 받고, 이후 초당 per-second개씩 채워진다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "enroll.rate-limit")
+public class RateLimitProperties {
+
+    /** 요청 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 사용자별 최대 연속 요청 수 */
+    private int userBurst = 10;
+
+    /** 사용자별 초당 허용 요청 수 */
+    private double userPerSecond = 5;
+
+    /** 서버 전체 최대 연속 요청 수 */
+    private int globalBurst = 2000;
+
+    /** 서버 전체 초당 허용 요청 수 */
+    private double globalPerSecond = 1000;
+
+    /** 대기표 발급(POST /api/waiting-room/tickets) 서버 전체 최대 연속 요청 수 */
+    private int ticketBurst = 5000;
+
+    /** 대기표 발급 서버 전체 초당 허용 요청 수 */
+    private double ticketPerSecond = 1000;
+
+    /** Retry-After 최대값 (초) */
+    private long maxRetryAfterSeconds = 30;
+}
@@ -1,7 +1,10 @@
 package org.example.backend.global.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.global.jwt.JwtAuthenticationFilter;
+import org.example.backend.global.ratelimit.EnrollRateLimitFilter;
+import org.example.backend.global.waitingroom.WaitingRoomFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -27,6 +30,8 @@ import org.springframework.security.config.Customizer;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final EnrollRateLimitFilter enrollRateLimitFilter;
+    private final WaitingRoomFilter waitingRoomFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -37,8 +42,13 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답 완료 시 비동기 디스패치 (원 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PathRequest.toH2Console()).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/waiting-room/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/departments").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/professors/**").hasRole("PROFESSOR")
@@ -48,7 +58,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/courses", "/api/courses/**").authenticated()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(waitingRoomFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(enrollRateLimitFilter, WaitingRoomFilter.class);
 
         return http.build();
     }
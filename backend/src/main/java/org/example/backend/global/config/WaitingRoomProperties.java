@@ -0,0 +1,39 @@
+package org.example.backend.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 접속 대기실 설정 (application.properties의 waiting-room.*).
+ * 대기표를 번호 순으로 초당 admit-per-second명씩, 동시 입장 max-active명까지 들여보낸다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "waiting-room")
+public class WaitingRoomProperties {
+
+    /** 대기실 사용 여부 (끄면 모든 요청 통과) */
+    private boolean enabled = false;
+
+    /** 초당 입장 인원 */
+    private double admitPerSecond = 50;
+
+    /** 동시 입장 최대 인원 (DB 커넥션 풀이 감당할 수 있는 사용자 수) */
+    private int maxActive = 500;
+
+    /** 입장 후 이 시간(초) 동안 요청이 없으면 자리를 비움 */
+    private long idleTimeoutSeconds = 60;
+
+    /** 차례가 된 뒤 입장 토큰을 받아 가기까지 기다리는 시간 (초) */
+    private long claimGraceSeconds = 30;
+
+    /** 입장 토큰 유효 시간 (초). 요청이 계속 와도 이 시간이 지나면 다시 줄을 선다 */
+    private long admissionTtlSeconds = 1800;
+
+    /** 대기표·입장 토큰 서명 키. 비어 있으면 jwt.secret에서 만든다 */
+    private String secret;
+}
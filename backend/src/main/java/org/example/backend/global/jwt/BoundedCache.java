@@ -0,0 +1,63 @@
+package org.example.backend.global.jwt;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 캐시 (PrincipalCache, VerifiedTokenCache 공용).
+ * maxSize에 닿으면 만료된 항목을 한 번에 지우고, 그래도 maxSize의 90%를 넘으면 90%까지 임의 항목을 비운다.
+ * 그래서 한 번 비운 뒤 maxSize의 10%만큼은 다시 훑지 않고 넣는다.
+ * 비우기는 한 스레드만 하고 (그동안 다른 스레드는 그냥 넣음) 잠깐 maxSize를 조금 넘을 수 있다.
+ */
+class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final int lowWater;
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.lowWater = Math.max(0, maxSize - Math.max(1, maxSize / 10));
+    }
+
+    V get(K key) {
+        return entries.get(key);
+    }
+
+    /** 넣음. 가득 찼으면 expired에 해당하는 항목부터 비운다 */
+    void put(K key, V value, Predicate<V> expired) {
+        if (entries.size() >= maxSize && !entries.containsKey(key)) evict(expired);
+        entries.put(key, value);
+    }
+
+    void remove(K key) {
+        entries.remove(key);
+    }
+
+    void remove(K key, V value) {
+        entries.remove(key, value);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(Predicate<V> expired) {
+        if (!evictLock.tryLock()) return;
+        try {
+            if (entries.size() < maxSize) return;
+            entries.values().removeIf(expired);
+            Iterator<K> it = entries.keySet().iterator();
+            while (entries.size() > lowWater && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.backend.global.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.user.entity.Role;
 import org.example.backend.domain.user.entity.User;
 import org.example.backend.domain.user.repository.UserRepository;
+import org.example.backend.global.config.JwtProperties;
+import org.example.backend.global.config.JwtProperties.PrincipalSource;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +24,8 @@ import java.util.Optional;
 
 /**
  * 요청 헤더의 Bearer JWT를 검증하고 SecurityContext에 인증 정보를 설정한다.
+ * jwt.principal-source=CLAIMS면 권한은 검증된 토큰의 role 값으로 정하고 사용자 객체는 PrincipalCache에서 꺼내,
+ * 캐시가 살아 있는 동안 요청마다 사용자 조회를 하지 않는다.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,34 +36,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final JwtProperties jwtProperties;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        if (StringUtils.hasText(token)) {
             try {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                Optional<User> userOpt = userRepository.findById(userId);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority(user.getRole().name());
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    user,
-                                    null,
-                                    Collections.singletonList(authority));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+                Claims claims = jwtTokenProvider.verifiedClaims(token);
+                authenticate(claims).ifPresent(authentication ->
+                        SecurityContextHolder.getContext().setAuthentication(authentication));
             } catch (Exception ignored) {
-                // 토큰은 유효하지만 사용자 없음 등은 다음 필터/컨트롤러에서 401 처리
+                // 유효하지 않은 토큰, 사용자 없음 등은 다음 필터/컨트롤러에서 401 처리
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private Optional<UsernamePasswordAuthenticationToken> authenticate(Claims claims) {
+        Long userId = Long.parseLong(claims.getSubject());
+        if (jwtProperties.getPrincipalSource() == PrincipalSource.CLAIMS) {
+            Role role = Role.valueOf(claims.get("role", String.class));
+            return principalCache.get(userId).map(user -> token(user, role));
+        }
+        return userRepository.findById(userId).map(user -> token(user, user.getRole()));
+    }
+
+    private static UsernamePasswordAuthenticationToken token(User user, Role role) {
+        return new UsernamePasswordAuthenticationToken(
+                user,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority(role.name())));
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearer) && bearer.startsWith(BEARER_PREFIX)) {
@@ -1,9 +1,9 @@
 package org.example.backend.global.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.user.entity.Role;
 import org.example.backend.global.config.JwtProperties;
 import org.springframework.stereotype.Component;
@@ -14,15 +14,21 @@ import java.util.Date;
 
 /**
  * JWT 토큰 생성 및 검증.
+ * 서명 키와 파서는 한 번만 만들고, 검증된 토큰은 VerifiedTokenCache에 두어 같은 토큰은 만료 전까지 다시 검증하지 않는다.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.tokenCache = new VerifiedTokenCache(jwtProperties.getTokenCache().getMaxSize());
     }
 
     /**
@@ -38,7 +44,7 @@ public class JwtTokenProvider {
                 .claim("role", role.name())
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -46,23 +52,27 @@ public class JwtTokenProvider {
      * 토큰 유효성 검사 및 Claims 반환. 유효하지 않으면 예외.
      */
     public Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * parseToken과 같지만 검증된 토큰은 만료 전까지 캐시에서 반환 (요청 인증용).
+     */
+    public Claims verifiedClaims(String token) {
+        if (!jwtProperties.getTokenCache().isEnabled()) return parseToken(token);
+        return tokenCache.get(token, this::parseToken);
     }
 
     /**
      * 토큰에서 사용자 ID 추출.
      */
     public Long getUserIdFromToken(String token) {
-        return Long.parseLong(parseToken(token).getSubject());
+        return Long.parseLong(verifiedClaims(token).getSubject());
     }
 
     public boolean validateToken(String token) {
         try {
-            parseToken(token);
+            verifiedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -0,0 +1,84 @@
+package org.example.backend.global.jwt;
+
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.example.backend.global.config.JwtProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 주체(User) 캐시 (jwt.principal-source=CLAIMS에서 사용).
+ * ttlSeconds가 지나면 다시 조회하고, maxSize에 닿으면 만료된 항목부터 비운다 (BoundedCache).
+ * 관리자가 사용자를 바꾸거나 지우면 invalidate로 바로 비운다. 비우기마다 세대(generation)를 올리고,
+ * 조회를 시작한 뒤 세대가 바뀌었으면 읽은 값을 담지 않는다 (커밋 전에 읽은 이전 값이 커밋 후 비우기 뒤에 담기지 않게).
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final JwtProperties.PrincipalCache config;
+    private final BoundedCache<Long, Entry> entries;
+    /** invalidate 횟수 (조회 중 비우기가 있었는지 확인용) */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(UserRepository userRepository, JwtProperties properties) {
+        this.userRepository = userRepository;
+        this.config = properties.getPrincipalCache();
+        this.entries = new BoundedCache<>(config.getMaxSize());
+    }
+
+    /** 사용자 (캐시에 없거나 만료되면 조회). 없는 사용자면 empty */
+    public Optional<User> get(Long userId) {
+        long now = System.nanoTime();
+        Entry cached = entries.get(userId);
+        if (cached != null && !cached.expired(now, ttlNanos())) return Optional.of(cached.user());
+
+        long gen = generation.get();
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty() || generation.get() != gen) {
+            entries.remove(userId);
+            return user;
+        }
+        long ttl = ttlNanos();
+        Entry entry = new Entry(user.get(), now);
+        entries.put(userId, entry, e -> e.expired(now, ttl));
+        // 확인과 담기 사이에 비우기가 끼었으면 방금 담은 값을 되돌림 (그 뒤의 비우기는 스스로 지움)
+        if (generation.get() != gen) entries.remove(userId, entry);
+        return user;
+    }
+
+    /** 캐시에서 비움. 트랜잭션 안이면 커밋 후에 한 번 더 비워 그 사이 다시 읽힌 이전 값도 지운다 */
+    public void invalidate(Long userId) {
+        generation.incrementAndGet();
+        entries.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    entries.remove(userId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private long ttlNanos() {
+        return TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+    }
+
+    private record Entry(User user, long loadedAt) {
+
+        boolean expired(long now, long ttlNanos) {
+            return now - loadedAt >= ttlNanos;
+        }
+    }
+}
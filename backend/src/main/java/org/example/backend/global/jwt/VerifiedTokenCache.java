@@ -0,0 +1,59 @@
+package org.example.backend.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims 캐시. 키는 토큰의 SHA-256 값 (토큰 원문은 보관하지 않음).
+ * 토큰 만료 시각까지만 돌려주고, 검증에 실패한 토큰은 담지 않는다 (위조 토큰은 매번 검증).
+ * maxSize에 닿으면 만료된 항목부터 비운다 (BoundedCache).
+ */
+class VerifiedTokenCache {
+
+    private final BoundedCache<ByteBuffer, Entry> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = new BoundedCache<>(maxSize);
+    }
+
+    /** 캐시된 Claims, 없으면 verifier로 검증해 담음 (검증 실패 예외는 그대로 던짐) */
+    Claims get(String token, Function<String, Claims> verifier) {
+        ByteBuffer key = ByteBuffer.wrap(sha256(token));
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.expired(now)) return cached.claims();
+            entries.remove(key, cached);
+        }
+
+        Claims claims = verifier.apply(token);
+        Date expiration = claims.getExpiration();
+        if (expiration != null) entries.put(key, new Entry(claims, expiration.getTime()), e -> e.expired(now));
+        return claims;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+
+        boolean expired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
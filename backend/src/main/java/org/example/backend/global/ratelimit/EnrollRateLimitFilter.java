@@ -0,0 +1,141 @@
+package org.example.backend.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.registration.queue.EnrollQueue;
+import org.example.backend.domain.registration.service.EnrollDrainMeter;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.global.config.RateLimitProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 수강신청 API(/api/enrollments/**) 요청 제한. WaitingRoomFilter 다음에 실행된다.
+ * 사용자별 토큰 버킷을 먼저, 서버 전체 토큰 버킷을 다음으로 확인하고, 부족하면 429와 Retry-After를 응답한다.
+ * 대기표 발급(POST /api/waiting-room/tickets)은 서버 전체 대기표 버킷만 확인한다. 대기표는 로그인 전에 받으므로
+ * 클라이언트를 IP로만 구분할 수 있는데, 같은 NAT·프록시 뒤의 학생들이 버킷 하나를 나눠 쓰게 되므로 IP별로는 제한하지 않는다.
+ * 대기 중인 강의에 대한 요청이면 Retry-After를 대기 순번 ÷ 측정된 처리 속도(EnrollDrainMeter)로 늘려,
+ * 결과가 나오기 전에 다시 묻지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/enrollments";
+    private static final String TICKET_PATH = "/api/waiting-room/tickets";
+    /** 경로에 강의 ID가 있는 요청 (/api/enrollments/{courseId}, /api/enrollments/waiting/{courseId}) */
+    private static final Pattern COURSE_PATH = Pattern.compile("^/api/enrollments/(?:waiting/)?(\\d+)$");
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final EnrollQueue enrollQueue;
+    private final EnrollDrainMeter drainMeter;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private TokenBucket globalBucket;
+    private TokenBucket ticketBucket;
+
+    @PostConstruct
+    public void init() {
+        long now = System.nanoTime();
+        globalBucket = new TokenBucket(properties.getGlobalBurst(), properties.getGlobalPerSecond(), now);
+        ticketBucket = new TokenBucket(properties.getTicketBurst(), properties.getTicketPerSecond(), now);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !(request.getRequestURI().startsWith(PATH_PREFIX) || isTicketRequest(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long now = System.nanoTime();
+        Long userId = currentUserId();
+        long waitNanos;
+        if (isTicketRequest(request)) {
+            waitNanos = ticketBucket.tryAcquire(now);
+        } else {
+            String key = userId != null ? "u:" + userId : "ip:" + request.getRemoteAddr();
+            waitNanos = userBuckets
+                    .computeIfAbsent(key, k -> new TokenBucket(properties.getUserBurst(), properties.getUserPerSecond(), now))
+                    .tryAcquire(now);
+            if (waitNanos == 0) waitNanos = globalBucket.tryAcquire(now);
+        }
+        if (waitNanos > 0) {
+            reject(response, retryAfterSeconds(request, userId, waitNanos));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /** 오래 쓰이지 않은 사용자 버킷 정리 */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(b -> b.isIdle(now, IDLE_NANOS));
+    }
+
+    /** 다음 토큰까지 남은 시간과, 대기 중인 강의면 내 차례까지 예상 시간 중 큰 값 (1초 ~ 최대값) */
+    private long retryAfterSeconds(HttpServletRequest request, Long userId, long waitNanos) {
+        long seconds = (long) Math.ceil(waitNanos / 1_000_000_000.0);
+        Long courseId = courseId(request);
+        if (userId != null && courseId != null && drainMeter.rate(courseId) > 0) {
+            try {
+                Long eta = drainMeter.etaSeconds(courseId, enrollQueue.getPosition(courseId, userId));
+                if (eta != null) seconds = Math.max(seconds, eta);
+            } catch (Exception ignored) {
+                // 대기열 조회 실패 시 토큰 대기 시간만 사용
+            }
+        }
+        return Math.min(Math.max(seconds, 1), properties.getMaxRetryAfterSeconds());
+    }
+
+    private void reject(HttpServletResponse response, long retryAfter) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of(
+                "message", "요청이 많습니다. " + retryAfter + "초 후 다시 시도해 주세요.",
+                "retryAfter", retryAfter));
+    }
+
+    private static boolean isTicketRequest(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && TICKET_PATH.equals(request.getRequestURI());
+    }
+
+    private static Long courseId(HttpServletRequest request) {
+        String param = request.getParameter("courseId");
+        if (param != null && param.matches("\\d{1,18}")) return Long.parseLong(param);
+        Matcher m = COURSE_PATH.matcher(request.getRequestURI());
+        return m.matches() ? Long.parseLong(m.group(1)) : null;
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.backend.global.ratelimit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 토큰 버킷. 최대 capacity개까지 쌓이고 초당 perSecond개씩 채워진다.
+ * 요청마다 한 개를 쓰며, 없으면 다음 토큰까지 남은 시간을 돌려준다.
+ * 전체 버킷은 모든 요청이 다투므로 synchronized 대신 ReentrantLock을 쓴다 (가상 스레드가 대기 중 캐리어를 놓음).
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double perNano;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefill;
+    private long lastUsed;
+
+    public TokenBucket(int capacity, double perSecond, long now) {
+        this.capacity = capacity;
+        this.perNano = perSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefill = now;
+        this.lastUsed = now;
+    }
+
+    /** 토큰 한 개 사용. 성공하면 0, 부족하면 다음 토큰까지 남은 나노초 */
+    public long tryAcquire(long now) {
+        lock.lock();
+        try {
+            refill(now);
+            lastUsed = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / perNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** idleNanos 이상 쓰이지 않아 가득 찬 상태인지 (정리 대상) */
+    public boolean isIdle(long now, long idleNanos) {
+        lock.lock();
+        try {
+            refill(now);
+            return tokens >= capacity && now - lastUsed >= idleNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * perNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.backend.global.sse;
+
+import jakarta.annotation.PreDestroy;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 전송기. 연결마다 이벤트를 순서대로 이어 붙여 가상 스레드에서 보내므로,
+ * 느린 연결이 다른 연결이나 이벤트를 만드는 스레드를 막지 않는다.
+ * 보낼 차례를 기다린 시간을 포함해 stream-send-timeout-ms 안에 전송이 끝나지 않으면 그 연결을 끊는다.
+ */
+@Component
+public class SseSender {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMs;
+
+    public SseSender(EnrollQueueProperties properties) {
+        this.timeoutMs = properties.getStreamSendTimeoutMs();
+    }
+
+    /** 연결 등록. 전송이 실패하거나 시간 초과되면 onClose를 한 번 호출하고 연결을 끊는다 */
+    public Channel open(SseEmitter emitter, Consumer<Channel> onClose) {
+        return new Channel(emitter, onClose);
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /** 연결 하나의 전송 순서 */
+    public final class Channel {
+
+        private final SseEmitter emitter;
+        private final Consumer<Channel> onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        /** 마지막으로 예약한 전송 (다음 전송은 이것이 끝난 뒤 실행) */
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private Channel(SseEmitter emitter, Consumer<Channel> onClose) {
+            this.emitter = emitter;
+            this.onClose = onClose;
+        }
+
+        /** 전송 예약. 전달되면 정상 완료, 실패·시간 초과·끊긴 연결이면 예외로 완료 */
+        public CompletableFuture<Void> send(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) return CompletableFuture.failedFuture(new IllegalStateException("closed"));
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = tail.thenRunAsync(() -> write(event), executor).orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+                tail = next;
+            }
+            next.whenComplete((v, e) -> {
+                if (e != null) close(e);
+            });
+            return next;
+        }
+
+        public void complete() {
+            if (closed.compareAndSet(false, true)) executor.execute(emitter::complete);
+        }
+
+        private void write(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /** 멈춘 전송이 emitter를 잡고 있을 수 있으므로 종료는 별도 스레드에서 */
+        private void close(Throwable cause) {
+            if (!closed.compareAndSet(false, true)) return;
+            onClose.accept(this);
+            executor.execute(() -> emitter.completeWithError(cause));
+        }
+    }
+}
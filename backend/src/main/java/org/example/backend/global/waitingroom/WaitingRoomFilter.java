@@ -0,0 +1,72 @@
+package org.example.backend.global.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.user.entity.Role;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.waitingroom.service.WaitingRoomService;
+import org.example.backend.global.config.WaitingRoomProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 접속 대기실 입장 확인 (waiting-room.enabled일 때). JwtAuthenticationFilter 다음에 실행된다.
+ * /api 요청은 X-Admission-Token 헤더의 입장 토큰이 유효하고 토큰을 받은 사용자가 요청한 사용자와 같아야 통과하고,
+ * 아니면 403과 waitingRoom: true로 대기실(/api/waiting-room)로 보낸다. 대기실 자체와 관리자 요청은 확인하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomFilter extends OncePerRequestFilter {
+
+    private static final String ADMISSION_HEADER = "X-Admission-Token";
+    private static final String API_PREFIX = "/api/";
+    private static final String WAITING_ROOM_PREFIX = "/api/waiting-room/";
+
+    private final WaitingRoomProperties properties;
+    private final WaitingRoomService waitingRoomService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !properties.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !uri.startsWith(API_PREFIX)
+                || uri.startsWith(WAITING_ROOM_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        User user = currentUser();
+        Long userId = user == null ? null : user.getId();
+        if ((user != null && user.getRole() == Role.ROLE_ADMIN)
+                || waitingRoomService.enter(request.getHeader(ADMISSION_HEADER), userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of(
+                "message", "대기열 입장이 필요합니다.",
+                "waitingRoom", true));
+    }
+
+    private static User currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof User user ? user : null;
+    }
+}
@@ -49,7 +49,7 @@ SELECT 51 + X, (X % 20) + 1, '2024' || LPAD(CAST(X AS VARCHAR), 4, '0'), (X % 4)
 FROM SYSTEM_RANGE(1, 600);
 
 -- 7) 강의 180개 (교수 1~50, 학과 1~20, 이수구분/학점/정원/대상학년/시간 다양)
-INSERT INTO courses (professor_id, department_id, course_code, title, category, credit, capacity, current_enrollment, target_grade, schedule)
+INSERT INTO courses (professor_id, department_id, course_code, title, category, credit, capacity, current_enrollment, target_grade, schedule, schedule_mask)
 SELECT
     (X % 50) + 1,
     (X % 20) + 1,
@@ -71,6 +71,19 @@ SELECT
         WHEN 7 THEN '수 10:00-12:00'
         WHEN 8 THEN '목 09:00-11:00'
         ELSE '금 14:00-16:00'
+    END,
+    -- 강의 시간 비트마스크 (TimetableMask: 비트 = 요일 × 12 + (시 - 9))
+    CASE (X % 10)
+        WHEN 0 THEN 3
+        WHEN 1 THEN 24576
+        WHEN 2 THEN 1610612736
+        WHEN 3 THEN 13194139533312
+        WHEN 4 THEN 3377699720527872
+        WHEN 5 THEN 48
+        WHEN 6 THEN 393216
+        WHEN 7 THEN 100663296
+        WHEN 8 THEN 206158430208
+        ELSE 27021597764222976
     END
 FROM SYSTEM_RANGE(0, 179);
 
@@ -89,3 +102,11 @@ UPDATE students s SET current_credits = (
     JOIN courses c ON r.course_id = c.id
     WHERE r.student_id = s.id
 );
+
+-- 11) 학생별 시간표 비트마스크 반영 (신청한 강의 시간표의 OR)
+UPDATE students s SET schedule_mask = (
+    SELECT COALESCE(BIT_OR_AGG(c.schedule_mask), 0)
+    FROM registrations r
+    JOIN courses c ON r.course_id = c.id
+    WHERE r.student_id = s.id
+);
@@ -0,0 +1,30 @@
+-- 여러 강의 대기열에 한 번에 등록 (장바구니 신청). 강의별 규칙은 enroll-enqueue.lua와 같다.
+-- KEYS: 1=active(set) 2=user(set), 이후 강의마다 5개씩 queue(list) tickets(hash) seq head seats
+-- ARGV: 1=userId 2=초과 허용 인원, 이후 강의마다 2개씩 courseId, DB 기준 남은 좌석 (seats 키가 없을 때 초기값)
+-- 반환: 강의 순서대로 순번 (1부터) = ticket - head, 매진이면 -1
+local uid = ARGV[1]
+local margin = tonumber(ARGV[2])
+local positions = {}
+for i = 0, (#KEYS - 2) / 5 - 1 do
+    local k = 2 + i * 5
+    local courseId = ARGV[3 + i * 2]
+    local head = tonumber(redis.call('GET', KEYS[k + 4]) or '0')
+    local ticket = redis.call('HGET', KEYS[k + 2], uid)
+    if ticket then
+        positions[#positions + 1] = tonumber(ticket) - head
+    else
+        redis.call('SET', KEYS[k + 5], ARGV[4 + i * 2], 'NX')
+        local seats = tonumber(redis.call('GET', KEYS[k + 5]))
+        if redis.call('HLEN', KEYS[k + 2]) >= seats + margin then
+            positions[#positions + 1] = -1
+        else
+            ticket = redis.call('INCR', KEYS[k + 3])
+            redis.call('HSET', KEYS[k + 2], uid, ticket)
+            redis.call('RPUSH', KEYS[k + 1], uid .. ':' .. ticket)
+            redis.call('SADD', KEYS[1], courseId)
+            redis.call('SADD', KEYS[2], courseId)
+            positions[#positions + 1] = ticket - head
+        end
+    end
+end
+return positions
@@ -0,0 +1,21 @@
+-- 대기열 등록 (번호표 방식). 이미 대기 중이면 기존 순번 반환.
+-- 남은 좌석(seats) + 초과 허용(margin)보다 대기 인원이 많으면 등록하지 않고 -1 반환 (매진).
+-- KEYS: 1=queue(list) 2=tickets(hash) 3=seq 4=head 5=active(set) 6=user(set) 7=seats
+-- ARGV: 1=userId 2=courseId 3=DB 기준 남은 좌석 (seats 키가 없을 때 초기값) 4=초과 허용 인원
+-- 반환: 순번 (1부터) = ticket - head, 매진이면 -1
+local head = tonumber(redis.call('GET', KEYS[4]) or '0')
+local ticket = redis.call('HGET', KEYS[2], ARGV[1])
+if ticket then
+    return tonumber(ticket) - head
+end
+redis.call('SET', KEYS[7], ARGV[3], 'NX')
+local seats = tonumber(redis.call('GET', KEYS[7]))
+if redis.call('HLEN', KEYS[2]) >= seats + tonumber(ARGV[4]) then
+    return -1
+end
+ticket = redis.call('INCR', KEYS[3])
+redis.call('HSET', KEYS[2], ARGV[1], ticket)
+redis.call('RPUSH', KEYS[1], ARGV[1] .. ':' .. ticket)
+redis.call('SADD', KEYS[5], ARGV[2])
+redis.call('SADD', KEYS[6], ARGV[2])
+return ticket - head
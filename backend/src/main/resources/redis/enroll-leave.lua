@@ -0,0 +1,10 @@
+-- 대기열 포기. 번호표만 지우고 목록의 항목은 pop 때 건너뜀 (O(1)).
+-- KEYS: 1=queue(list) 2=tickets(hash) 3=seq 4=head 5=active(set) 6=user(set)
+-- ARGV: 1=userId 2=courseId
+redis.call('HDEL', KEYS[2], ARGV[1])
+redis.call('SREM', KEYS[6], ARGV[2])
+if redis.call('HLEN', KEYS[2]) == 0 then
+    redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4])
+    redis.call('SREM', KEYS[5], ARGV[2])
+end
+return 1
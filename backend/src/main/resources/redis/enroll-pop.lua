@@ -0,0 +1,32 @@
+-- 대기열 앞에서 최대 count명 꺼냄. 포기(leave)로 번호표가 사라진 항목은 건너뜀.
+-- 꺼낸 인원만큼 남은 좌석(seats)을 미리 차감 (처리 후 DB 값으로 다시 맞춤).
+-- 꺼낸 사용자의 대기 강의 목록(enroll:user:{uid})에서도 같은 스크립트 안에서 지운다 (꺼내기와 원자적).
+-- 이 키는 꺼내 봐야 알 수 있어 KEYS로 넘기지 못하므로 단일 Redis 노드 전용이다 (Cluster 미지원, 다른 스크립트도 같음).
+-- KEYS: 1=queue(list) 2=tickets(hash) 3=seq 4=head 5=active(set) 6=seats
+-- ARGV: 1=count 2=courseId 3=사용자 대기 강의 목록 키 접두사
+-- 반환: 꺼낸 userId 목록 (순서대로)
+local popped = {}
+local count = tonumber(ARGV[1])
+while #popped < count do
+    local entry = redis.call('LPOP', KEYS[1])
+    if not entry then break end
+    local sep = string.find(entry, ':', 1, true)
+    if sep then
+        local uid = string.sub(entry, 1, sep - 1)
+        local ticket = string.sub(entry, sep + 1)
+        if redis.call('HGET', KEYS[2], uid) == ticket then
+            redis.call('HDEL', KEYS[2], uid)
+            redis.call('SET', KEYS[4], ticket)
+            redis.call('SREM', ARGV[3] .. uid, ARGV[2])
+            popped[#popped + 1] = uid
+        end
+    end
+end
+if #popped > 0 and redis.call('EXISTS', KEYS[6]) == 1 then
+    redis.call('DECRBY', KEYS[6], #popped)
+end
+if redis.call('HLEN', KEYS[2]) == 0 then
+    redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4])
+    redis.call('SREM', KEYS[5], ARGV[2])
+end
+return popped
@@ -0,0 +1,6 @@
+-- 대기 순번 조회. 대기 중이 아니면 0.
+-- KEYS: 1=tickets(hash) 2=head
+-- ARGV: 1=userId
+local ticket = redis.call('HGET', KEYS[1], ARGV[1])
+if not ticket then return 0 end
+return tonumber(ticket) - tonumber(redis.call('GET', KEYS[2]) or '0')
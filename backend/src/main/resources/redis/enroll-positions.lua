@@ -0,0 +1,11 @@
+-- 한 강의에서 여러 사용자의 대기 순번을 한 번에 조회 (실시간 알림 주기용). 대기 중이 아니면 0.
+-- KEYS: 1=tickets(hash) 2=head
+-- ARGV: userId 목록
+-- 반환: ARGV 순서대로 순번
+local tickets = redis.call('HMGET', KEYS[1], unpack(ARGV))
+local head = tonumber(redis.call('GET', KEYS[2]) or '0')
+local positions = {}
+for i = 1, #ARGV do
+    positions[i] = tickets[i] and (tonumber(tickets[i]) - head) or 0
+end
+return positions
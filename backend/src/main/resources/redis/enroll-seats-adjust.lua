@@ -0,0 +1,7 @@
+-- 남은 좌석(seats) 증감. 아직 미러링되지 않은 강의(키 없음)는 건드리지 않음.
+-- KEYS: 1=seats
+-- ARGV: 1=delta
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return redis.call('INCRBY', KEYS[1], ARGV[1])
+end
+return nil
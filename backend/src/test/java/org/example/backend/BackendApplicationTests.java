@@ -3,7 +3,7 @@ package org.example.backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "enroll.queue.backend=memory")
 class BackendApplicationTests {
 
     @Test
@@ -0,0 +1,191 @@
+package org.example.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 방식별 최대 수강신청 처리량 비교 (요청 스레드: 플랫폼/가상, 대기열: MEMORY, -Dloadtest.redis=true면 REDIS·REDIS_REACTIVE도).
+ * 방식마다 애플리케이션을 새로 띄우고, POST /api/enrollments를 정해진 초당 요청 수로 보낸다 (응답을 기다리지 않는 open-loop).
+ * 초당 요청 수를 단계마다 늘려 가며, 지연 p99가 slo-ms 이하이고 5xx·타임아웃이 1% 이하인 마지막 단계를 최대 처리량으로 본다.
+ * 지연은 예정 전송 시각부터 재므로 서버가 밀리면 대기 시간까지 포함된다.
+ * 정원·학점·시간표 제한을 풀어 모든 요청이 실제 신청까지 간다 (매진 응답으로 가벼워지지 않게).
+ * 실행: ./gradlew loadTest --tests '*EnrollThroughputLoadTest'  (-Dloadtest.rps-start=200 -Dloadtest.step-ms=5000 -Dloadtest.slo-ms=250)
+ */
+@Tag("loadtest")
+class EnrollThroughputLoadTest {
+
+    private static final String PASSWORD = "password";
+    private static final double MAX_ERROR_RATIO = 0.01;
+
+    private final double rpsStart = Double.parseDouble(System.getProperty("loadtest.rps-start", "100"));
+    private final double rpsFactor = Double.parseDouble(System.getProperty("loadtest.rps-factor", "1.5"));
+    private final double rpsMax = Double.parseDouble(System.getProperty("loadtest.rps-max", "20000"));
+    private final long stepMs = Long.getLong("loadtest.step-ms", 5000);
+    private final long sloMs = Long.getLong("loadtest.slo-ms", 250);
+    private final boolean redis = Boolean.getBoolean("loadtest.redis");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void maxSustainableEnrollRps() throws Exception {
+        List<String> backends = redis ? List.of("MEMORY", "REDIS", "REDIS_REACTIVE") : List.of("MEMORY");
+        List<String> report = new ArrayList<>();
+        List<Double> sustained = new ArrayList<>();
+        int run = 0;
+        for (String backend : backends) {
+            for (boolean virtual : new boolean[]{false, true}) {
+                String mode = String.format("threads=%-8s queue=%-14s", virtual ? "virtual" : "platform", backend);
+                Step best = measure(backend, virtual, run++);
+                report.add(String.format("[rps] %s max sustainable=%7.0f rps  p99=%7.1f ms  errors=%d",
+                        mode, best.rps, best.p99Ms, best.errors));
+                sustained.add(best.rps);
+            }
+        }
+        report.forEach(System.out::println);
+        assertThat(sustained).as("첫 단계(rps-start)도 감당하지 못한 방식").allSatisfy(rps -> assertThat(rps).isPositive());
+    }
+
+    /** 한 방식: 애플리케이션 기동 → 데이터 준비·로그인 → 단계별 부하. 통과한 마지막 단계 (없으면 rps 0) */
+    private Step measure(String backend, boolean virtual, int run) throws Exception {
+        // 명령행 인자로 넘겨 application.properties 값보다 우선하게 함
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:throughput" + run,
+                "--enroll.queue.backend=" + backend,
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--enroll.rate-limit.enabled=false",
+                "--logging.level.root=WARN");
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            prepareData(context);
+            HttpClient http = HttpClient.newBuilder().executor(clients).connectTimeout(Duration.ofSeconds(10)).build();
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            List<String> tokens = login(http, clients, port,
+                    jdbc.queryForList("SELECT username FROM users WHERE role = 'ROLE_STUDENT' ORDER BY id", String.class));
+            List<Long> courseIds = jdbc.queryForList("SELECT id FROM courses ORDER BY id", Long.class);
+
+            Step best = new Step(0, 0, 0, 0, 0);
+            Random random = new Random(run);
+            for (double rps = rpsStart; rps <= rpsMax; rps *= rpsFactor) {
+                Step step = runStep(http, clients, port, rps, tokens, courseIds, random);
+                boolean passed = step.p99Ms <= sloMs && step.errors <= step.sent * MAX_ERROR_RATIO;
+                System.out.printf("[rps]   %s/%s offered=%7.0f rps  sent=%6d  p50=%7.1f ms  p99=%7.1f ms  errors=%d%s%n",
+                        virtual ? "virtual" : "platform", backend, rps, step.sent, step.p50Ms, step.p99Ms, step.errors,
+                        passed ? "" : "  <- over");
+                if (!passed) break;
+                best = step;
+                Thread.sleep(1000);
+            }
+            return best;
+        }
+    }
+
+    /** stepMs 동안 rps 간격으로 신청 요청. 응답은 단계가 끝난 뒤 최대 30초까지 기다린다 */
+    private Step runStep(HttpClient http, ExecutorService clients, int port, double rps, List<String> tokens,
+                         List<Long> courseIds, Random random) {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder errors = new LongAdder();
+        long interval = (long) (1_000_000_000L / rps);
+        int sent = (int) Math.max(1, TimeUnit.MILLISECONDS.toNanos(stepMs) / interval);
+        CountDownLatch done = new CountDownLatch(sent);
+        long start = System.nanoTime();
+        for (int i = 0; i < sent; i++) {
+            long scheduled = start + i * interval;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            String token = tokens.get(random.nextInt(tokens.size()));
+            long courseId = courseIds.get(random.nextInt(courseIds.size()));
+            clients.execute(() -> {
+                try {
+                    HttpResponse<Void> res = http.send(post(port, "/api/enrollments", token, "{\"courseId\":" + courseId + "}"),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (res.statusCode() >= 500) errors.increment();
+                } catch (Exception e) {
+                    errors.increment();
+                } finally {
+                    latencies.add(System.nanoTime() - scheduled);
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            if (!done.await(30, TimeUnit.SECONDS)) errors.add(done.getCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.add(done.getCount());
+        }
+        long[] ns = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (ns.length == 0) return new Step(rps, sent, Double.MAX_VALUE, Double.MAX_VALUE, errors.sum());
+        return new Step(rps, sent, ms(ns, 0.50), ms(ns, 0.99), errors.sum());
+    }
+
+    /** 학생 전원 로그인 (동시에) */
+    private List<String> login(HttpClient http, ExecutorService clients, int port, List<String> usernames)
+            throws Exception {
+        List<Future<String>> futures = new ArrayList<>();
+        for (String username : usernames) {
+            futures.add(clients.submit(() -> {
+                HttpResponse<String> res = http.send(post(port, "/api/auth/login", null,
+                                "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"),
+                        HttpResponse.BodyHandlers.ofString());
+                return objectMapper.readTree(res.body()).path("accessToken").asText();
+            }));
+        }
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> f : futures) tokens.add(f.get());
+        return tokens;
+    }
+
+    /** 시드 신청 내역을 비우고 정원·학점·시간표 제한을 풀어, 모든 신청이 대기열 처리와 DB 기록까지 가게 한다 */
+    private static void prepareData(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("DELETE FROM registrations");
+        jdbc.update("UPDATE courses SET current_enrollment = 0, capacity = 100000, schedule_mask = 0");
+        jdbc.update("UPDATE students SET current_credits = 0, max_credits = 100000, schedule_mask = 0");
+        if (context.getBeanProvider(StringRedisTemplate.class).getIfAvailable() instanceof StringRedisTemplate template) {
+            Set<String> keys = template.keys("enroll:*");
+            if (keys != null && !keys.isEmpty()) template.delete(keys);
+        }
+    }
+
+    private static HttpRequest post(int port, String path, String token, String body) {
+        HttpRequest.Builder req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) req.header("Authorization", "Bearer " + token);
+        return req.build();
+    }
+
+    private static double ms(long[] sortedNanos, double p) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) (sortedNanos.length * p))] / 1e6;
+    }
+
+    private record Step(double rps, long sent, double p50Ms, double p99Ms, long errors) {}
+}
@@ -0,0 +1,87 @@
+package org.example.backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.backend.domain.course.dto.CourseResponse;
+import org.example.backend.domain.course.service.CourseService;
+import org.example.backend.domain.registration.dto.EnrolledStudentResponse;
+import org.example.backend.domain.registration.dto.EnrollmentResponse;
+import org.example.backend.domain.registration.service.EnrollmentService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록·명단·내역 조회가 행 수와 관계없이 고정된 SQL 문장 수로 끝나는지 Hibernate 통계로 확인 (data.sql 시드 기준).
+ * 강의 목록 캐시를 끄고 DB 경로를 검사한다.
+ */
+@SpringBootTest(properties = {
+        "enroll.queue.backend=memory",
+        "course.catalog.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReadPathStatementCountTest {
+
+    /** data.sql: prof01(user_id 2)의 강의 2 (수강생 20명), s00001(user_id 52, 6과목) */
+    private static final long PROFESSOR_USER_ID = 2L;
+    private static final long STUDENT_USER_ID = 52L;
+    private static final long COURSE_ID = 2L;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void courseList_contentAndCountOnly() {
+        Page<CourseResponse> page = courseService.findAll(null, null, null, null, PageRequest.of(0, 100));
+
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(page.getContent()).allSatisfy(c -> assertThat(c.getProfessorName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void professorCourses_singleStatement() {
+        List<CourseResponse> courses = courseService.findCoursesByProfessorUserId(PROFESSOR_USER_ID);
+
+        assertThat(courses).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void myEnrollments_singleStatement() {
+        List<EnrollmentResponse> enrollments = enrollmentService.getMyEnrollments(STUDENT_USER_ID);
+
+        assertThat(enrollments).hasSize(6);
+        assertThat(enrollments).allSatisfy(e -> assertThat(e.getProfessorName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void courseRoster_ownershipCheckAndRoster() {
+        List<EnrolledStudentResponse> roster = enrollmentService.getStudentsByCourse(PROFESSOR_USER_ID, COURSE_ID);
+
+        assertThat(roster).hasSize(20);
+        assertThat(roster).allSatisfy(r -> assertThat(r.getStudentName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수강신청 오픈 직후 부하 재현 (Redis 없이 메모리 대기열, H2 시드 데이터).
+ * 학생마다 가상 스레드 클라이언트 하나가 burst 구간 안에서 로그인 → 대상 학년 강의 6개 신청 → 모두 처리될 때까지 상태 조회를 한다.
+ * 대기 순번(/waiting)을 조회하다 빠진 강의만 /status로 결과를 확인한다. 조회 간격은 etaSeconds, 429면 Retry-After를 따른다. 강의 선택은 인기 강의 몇 개에 몰리도록 치우친다.
+ * 엔드포인트별 지연 p50/p99/p999, 학생별 처리 완료 시간, 정원·학점·중복 불변식을 확인한다.
+ * 실행: ./gradlew loadTest  (규모: -Dloadtest.scale=5 → 학생 3,000명, -Dloadtest.burst-ms=1000)
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "enroll.queue.backend=memory",
+        "logging.level.root=WARN"
+})
+class RegistrationStormLoadTest {
+
+    private static final String PASSWORD = "password";
+    private static final String PASSWORD_HASH = "$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG";
+    private static final int COURSES_PER_STUDENT = 6;
+    private static final int POPULAR_PER_GRADE = 3;
+    private static final long MIN_POLL_MS = 200;
+    private static final Duration SETTLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int scale = Integer.getInteger("loadtest.scale", 1);
+    private final long burstMs = Long.getLong("loadtest.burst-ms", 1000);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+    private HttpClient http;
+
+    @Test
+    void openingBurst() throws Exception {
+        prepareData();
+        List<Map<String, Object>> students = jdbc.queryForList(
+                "SELECT u.username, s.grade FROM users u JOIN students s ON s.user_id = u.id ORDER BY u.id");
+        Map<Integer, List<Long>> coursesByGrade = new HashMap<>();
+        jdbc.queryForList("SELECT id, target_grade FROM courses ORDER BY id").forEach(row ->
+                coursesByGrade.computeIfAbsent(((Number) row.get("target_grade")).intValue(), k -> new ArrayList<>())
+                        .add(((Number) row.get("id")).longValue()));
+
+        long[] settleMs = new long[students.size()];
+        Arrays.fill(settleMs, -1);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(students.size());
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            http = HttpClient.newBuilder().executor(clients).connectTimeout(Duration.ofSeconds(10)).build();
+            for (int i = 0; i < students.size(); i++) {
+                int idx = i;
+                String username = (String) students.get(i).get("username");
+                int grade = ((Number) students.get(i).get("grade")).intValue();
+                List<Long> courses = pickCourses(coursesByGrade.get(grade), new Random(idx));
+                long delayMs = burstMs > 0 ? new Random(~idx).nextLong(burstMs) : 0;
+                clients.execute(() -> {
+                    try {
+                        gate.await();
+                        Thread.sleep(delayMs);
+                        settleMs[idx] = runStudent(username, courses);
+                    } catch (Exception e) {
+                        count("client_error");
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            gate.countDown();
+            done.await(SETTLE_TIMEOUT.toMinutes() + 1, TimeUnit.MINUTES);
+            System.out.printf("[storm] students=%d burst=%dms wall=%dms throttled(429)=%d%n", students.size(), burstMs,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), throttled.sum());
+        }
+
+        report(settleMs);
+        checkInvariants();
+    }
+
+    /** 한 학생: 로그인 → 강의별 신청 → 대기 중인 강의가 모두 처리될 때까지 순번·상태 조회. 처리 완료까지 걸린 시간(ms) */
+    private long runStudent(String username, List<Long> courses) throws Exception {
+        long start = System.nanoTime();
+        JsonNode login = call("login", "POST", "/api/auth/login", null,
+                "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}");
+        if (login == null) return -1;
+        String token = login.path("accessToken").asText();
+
+        Set<Long> pending = new LinkedHashSet<>();
+        for (Long courseId : courses) {
+            JsonNode r = call("enroll", "POST", "/api/enrollments", token, "{\"courseId\":" + courseId + "}");
+            if (r == null) count("rejected");
+            else if (r.path("soldOut").asBoolean()) count("sold_out");
+            else pending.add(courseId);
+        }
+
+        long deadline = System.nanoTime() + SETTLE_TIMEOUT.toNanos();
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            JsonNode waiting = call("waiting", "GET", "/api/enrollments/waiting", token, null);
+            Map<Long, Long> etaByCourse = new HashMap<>();
+            if (waiting != null) {
+                waiting.path("positions").forEach(p ->
+                        etaByCourse.put(p.path("courseId").asLong(), p.path("etaSeconds").asLong(0)));
+            }
+            for (Long courseId : List.copyOf(pending)) {
+                if (etaByCourse.containsKey(courseId)) continue;
+                JsonNode st = call("status", "GET", "/api/enrollments/status?courseId=" + courseId, token, null);
+                String status = st != null ? st.path("status").asText() : "error";
+                if ("pending".equals(status)) continue;
+                count("enrolled".equals(status) ? "success" : status);
+                pending.remove(courseId);
+            }
+            long waitMs = etaByCourse.values().stream().mapToLong(TimeUnit.SECONDS::toMillis).min().orElse(0);
+            if (!pending.isEmpty()) Thread.sleep(Math.max(MIN_POLL_MS, waitMs));
+        }
+        pending.forEach(c -> count("unsettled"));
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /** HTTP 호출 (429면 Retry-After만큼 기다렸다 재시도). 2xx면 응답 JSON, 아니면 null */
+    private JsonNode call(String endpoint, String method, String path, String token, String body) throws Exception {
+        while (true) {
+            HttpRequest.Builder req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json");
+            if (token != null) req.header("Authorization", "Bearer " + token);
+            req.method(method, body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody());
+
+            long t0 = System.nanoTime();
+            HttpResponse<String> res = http.send(req.build(), HttpResponse.BodyHandlers.ofString());
+            latencies.computeIfAbsent(endpoint, k -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - t0);
+            if (res.statusCode() == 429) {
+                throttled.increment();
+                long retryAfter = res.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+                continue;
+            }
+            if (res.statusCode() / 100 != 2) return null;
+            return res.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(res.body());
+        }
+    }
+
+    /** 대상 학년 강의 중 COURSES_PER_STUDENT개. 절반은 인기 강의(앞쪽 몇 개)에서 골라 경쟁을 만든다 */
+    private static List<Long> pickCourses(List<Long> candidates, Random random) {
+        Set<Long> picked = new LinkedHashSet<>();
+        while (picked.size() < Math.min(COURSES_PER_STUDENT, candidates.size())) {
+            int bound = random.nextBoolean() ? Math.min(POPULAR_PER_GRADE, candidates.size()) : candidates.size();
+            picked.add(candidates.get(random.nextInt(bound)));
+        }
+        return List.copyOf(picked);
+    }
+
+    /** 시드 신청 내역을 비우고, scale > 1이면 학생을 (scale - 1) × 600명 더 만든다 */
+    private void prepareData() {
+        jdbc.update("DELETE FROM registrations");
+        jdbc.update("UPDATE courses SET current_enrollment = 0");
+        jdbc.update("UPDATE students SET current_credits = 0, schedule_mask = 0");
+        int extra = (scale - 1) * 600;
+        if (extra <= 0) return;
+        jdbc.update("""
+                INSERT INTO users (username, password, name, role)
+                SELECT 'ls' || LPAD(CAST(X AS VARCHAR), 6, '0'), ?, '부하' || X, 'ROLE_STUDENT'
+                FROM SYSTEM_RANGE(1, ?)
+                """, PASSWORD_HASH, extra);
+        jdbc.update("""
+                INSERT INTO students (user_id, department_id, student_number, grade, max_credits, current_credits)
+                SELECT u.id, MOD(u.id, 20) + 1, 'L' || u.id, MOD(u.id, 4) + 1, 21, 0
+                FROM users u WHERE u.username LIKE 'ls%'
+                """);
+    }
+
+    private void report(long[] settleMs) {
+        latencies.forEach((endpoint, samples) -> {
+            long[] ns = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("[storm] %-7s n=%6d  p50=%7.1f ms  p99=%7.1f ms  p999=%7.1f ms  max=%7.1f ms%n",
+                    endpoint, ns.length, ms(ns, 0.50), ms(ns, 0.99), ms(ns, 0.999), ns[ns.length - 1] / 1e6);
+        });
+        long[] settled = Arrays.stream(settleMs).filter(v -> v >= 0).sorted().toArray();
+        if (settled.length > 0) {
+            System.out.printf("[storm] settle  n=%6d  p50=%7d ms  p99=%7d ms  max=%7d ms%n", settled.length,
+                    settled[(int) (settled.length * 0.50)], settled[(int) (settled.length * 0.99)], settled[settled.length - 1]);
+        }
+        System.out.println("[storm] outcomes " + new TreeMap<>(outcomes));
+    }
+
+    private void checkInvariants() {
+        Integer overCapacity = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM courses c
+                WHERE c.current_enrollment > c.capacity
+                   OR c.current_enrollment <> (SELECT COUNT(*) FROM registrations r WHERE r.course_id = c.id)
+                """, Integer.class);
+        Integer overCredits = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM students s
+                WHERE s.current_credits > s.max_credits
+                   OR s.current_credits <> (SELECT COALESCE(SUM(c.credit), 0) FROM registrations r
+                                            JOIN courses c ON c.id = r.course_id WHERE r.student_id = s.id)
+                """, Integer.class);
+        Integer duplicates = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM (SELECT student_id, course_id FROM registrations
+                                      GROUP BY student_id, course_id HAVING COUNT(*) > 1)
+                """, Integer.class);
+        Integer registrations = jdbc.queryForObject("SELECT COUNT(*) FROM registrations", Integer.class);
+
+        assertThat(overCapacity).as("정원 초과 또는 인원 불일치 강의").isZero();
+        assertThat(overCredits).as("학점 초과 또는 학점 불일치 학생").isZero();
+        assertThat(duplicates).as("중복 신청").isZero();
+        assertThat(registrations.longValue()).as("success 결과 수 = 신청 내역 수")
+                .isEqualTo(outcomes.getOrDefault("success", new LongAdder()).sum());
+        assertThat(outcomes).doesNotContainKeys("unsettled", "client_error");
+    }
+
+    private void count(String outcome) {
+        outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+    }
+
+    private static double ms(long[] sortedNanos, double p) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) (sortedNanos.length * p))] / 1e6;
+    }
+}
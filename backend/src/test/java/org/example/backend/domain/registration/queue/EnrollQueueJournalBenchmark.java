@@ -0,0 +1,82 @@
+package org.example.backend.domain.registration.queue;
+
+import org.example.backend.domain.registration.queue.EnrollQueueJournal.JournalRecord;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널 기록 처리량 비교 (syncCommit: fsync까지 대기 vs 비동기 flush, 기록 스레드 수별).
+ * syncCommit에서는 동시에 기록하는 스레드가 많을수록 한 번의 fsync에 여러 레코드가 묶인다 (group commit).
+ * 실행: ./gradlew benchmark --tests '*EnrollQueueJournalBenchmark'
+ */
+@Tag("benchmark")
+class EnrollQueueJournalBenchmark {
+
+    private static final int RECORDS = 20_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appendThroughput_syncVsAsync() throws Exception {
+        for (boolean syncCommit : new boolean[]{false, true}) {
+            for (int threads : new int[]{1, 8, 64}) {
+                Path path = dir.resolve("journal-" + syncCommit + "-" + threads);
+                long elapsedNanos = run(path, syncCommit, threads);
+                System.out.printf("[journal] syncCommit=%-5s threads=%3d  %,10.0f records/s%n",
+                        syncCommit, threads, RECORDS / (elapsedNanos / 1e9));
+
+                List<JournalRecord> replayed = new ArrayList<>();
+                EnrollQueueJournal reopened = new EnrollQueueJournal(properties(path, syncCommit));
+                reopened.open(replayed::add, List::of);
+                reopened.close();
+                assertThat(replayed).hasSize(RECORDS);
+            }
+        }
+    }
+
+    private long run(Path path, boolean syncCommit, int threads) throws Exception {
+        EnrollQueueJournal journal = new EnrollQueueJournal(properties(path, syncCommit));
+        journal.open(r -> {}, List::of);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        int perThread = RECORDS / threads;
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            int count = t == threads - 1 ? RECORDS - offset : perThread;
+            pool.execute(() -> {
+                for (int i = 0; i < count; i++) {
+                    long userId = offset + i;
+                    journal.append(JournalRecord.enqueue(userId % 180 + 1, userId, userId + 1));
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+        journal.close();
+        return elapsed;
+    }
+
+    private EnrollQueueProperties properties(Path path, boolean syncCommit) {
+        EnrollQueueProperties properties = new EnrollQueueProperties();
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setPath(path.toString());
+        properties.getJournal().setSyncCommit(syncCommit);
+        return properties;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.backend.domain.registration.queue;
+
+import org.example.backend.domain.registration.queue.EnrollQueueJournal.JournalRecord;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널 복구: 기록 → 종료 없이 중단(crash) → 다시 열었을 때 대기 순서, 처리 중이던 요청, 처리 결과가 돌아오는지.
+ * syncCommit이라 append가 돌아오면 디스크에 반영돼 있으므로, 저널을 닫지 않고 새로 여는 것으로 중단을 흉내 낸다.
+ */
+class InMemoryEnrollQueueRecoveryTest {
+
+    private static final long COURSE = 10L;
+
+    @TempDir
+    Path dir;
+
+    private final List<EnrollQueueJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        opened.forEach(EnrollQueueJournal::close);
+    }
+
+    @Test
+    void recover_restoresOrderInflightAndResults() {
+        InMemoryEnrollQueue before = start();
+        for (long userId = 1; userId <= 5; userId++) before.enqueue(COURSE, userId, 100);
+        assertThat(before.popMany(COURSE, 2)).containsExactly(1L, 2L);
+        before.setResult(1L, COURSE, "success");   // 2번은 처리 도중 중단
+        before.removeFromQueue(COURSE, 4L);
+
+        InMemoryEnrollQueue after = start();
+
+        assertThat(after.getAndClearResult(1L, COURSE)).isEqualTo("success");
+        assertThat(after.getQueueSize(COURSE)).isEqualTo(3);
+        assertThat(after.getMyQueuedCourseIds(2L)).containsExactly(COURSE);
+        assertThat(after.getMyQueuedCourseIds(4L)).isEmpty();
+        assertThat(after.getPosition(COURSE, 2L)).isEqualTo(1);
+        assertThat(after.popMany(COURSE, 10)).containsExactly(2L, 3L, 5L);
+    }
+
+    @Test
+    void recover_requeuesPopWithoutTicketInSnapshot() {
+        // 압축 스냅샷이 번호표 삭제 후·처리 중 표시 전에 찍힌 경우: 사용자는 뒤이은 POP 레코드에만 남는다
+        EnrollQueueJournal journal = journal();
+        journal.open(r -> {}, () -> List.of(JournalRecord.head(COURSE, 0), JournalRecord.enqueue(COURSE, 8L, 4)));
+        journal.append(JournalRecord.pop(COURSE, 7L, 3));
+
+        InMemoryEnrollQueue after = start();
+
+        assertThat(after.popMany(COURSE, 10)).containsExactly(7L, 8L);
+    }
+
+    @Test
+    void recover_afterCompaction_keepsState() {
+        InMemoryEnrollQueue before = start();
+        before.enqueue(COURSE, 1L, 100);
+        before.enqueue(COURSE, 2L, 100);
+        before.popMany(COURSE, 1);
+
+        InMemoryEnrollQueue middle = start();    // 복구 후 스냅샷으로 새 파일을 씀
+        middle.enqueue(COURSE, 3L, 100);
+
+        InMemoryEnrollQueue after = start();
+        assertThat(after.popMany(COURSE, 10)).containsExactly(1L, 2L, 3L);
+    }
+
+    private InMemoryEnrollQueue start() {
+        InMemoryEnrollQueue queue = new InMemoryEnrollQueue(event -> {}, properties(), Optional.of(journal()));
+        queue.recover();
+        return queue;
+    }
+
+    private EnrollQueueJournal journal() {
+        EnrollQueueJournal journal = new EnrollQueueJournal(properties());
+        opened.add(journal);
+        return journal;
+    }
+
+    private EnrollQueueProperties properties() {
+        EnrollQueueProperties properties = new EnrollQueueProperties();
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setPath(dir.resolve("enroll-queue.journal").toString());
+        properties.getJournal().setSizeMb(1);
+        properties.getJournal().setSyncCommit(true);
+        return properties;
+    }
+}
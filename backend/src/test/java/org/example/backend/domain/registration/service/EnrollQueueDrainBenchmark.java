@@ -0,0 +1,118 @@
+package org.example.backend.domain.registration.service;
+
+import org.example.backend.domain.registration.event.EnrollQueuedEvent;
+import org.example.backend.domain.registration.queue.InMemoryEnrollQueue;
+import org.example.backend.global.config.EnrollQueueProperties;
+import org.example.backend.global.config.EnrollQueueProperties.ProcessorMode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 10,000건 동시 신청(burst)을 큐에 넣은 뒤 모두 처리되기까지 걸리는 시간 비교 (POLLING vs EVENT vs EVENT+일괄 처리).
+ * Redis·DB 없이 큐는 InMemoryEnrollQueue, 수강신청 처리는 트랜잭션당 고정 비용(TX_COST) + 건당 비용(ROW_COST)으로 대체한다.
+ * 실행: ./gradlew benchmark --tests '*EnrollQueueDrainBenchmark'
+ */
+@Tag("benchmark")
+class EnrollQueueDrainBenchmark {
+
+    private static final int REQUESTS = 10_000;
+    private static final int COURSES = 180;
+    private static final long TX_COST_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final long ROW_COST_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Test
+    void drainBurst_pollingVsEvent() throws Exception {
+        Result polling = run(ProcessorMode.POLLING, false);
+        Result event = run(ProcessorMode.EVENT, false);
+        Result batch = run(ProcessorMode.EVENT, true);
+
+        print("POLLING", polling);
+        print("EVENT", event);
+        print("EVENT+BATCH", batch);
+        assertThat(event.totalMs).isLessThan(polling.totalMs);
+    }
+
+    private void print(String label, Result r) {
+        System.out.printf("[drain] %-11s total=%6d ms  wait p50=%6d ms  p99=%6d ms%n", label, r.totalMs, r.p50Ms, r.p99Ms);
+    }
+
+    private Result run(ProcessorMode mode, boolean batchAdmission) throws Exception {
+        EnrollQueueProperties properties = new EnrollQueueProperties();
+        properties.setMode(mode);
+        properties.setBatchAdmission(batchAdmission);
+
+        EnrollQueueProcessor[] processorRef = new EnrollQueueProcessor[1];
+        InMemoryEnrollQueue queue = new InMemoryEnrollQueue(event -> {
+            if (event instanceof EnrollQueuedEvent && processorRef[0] != null) processorRef[0].wakeUp();
+        }, properties, Optional.empty());
+        long[] enqueuedAt = new long[REQUESTS];
+        long[] settledAt = new long[REQUESTS];
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+
+        EnrollmentService enrollmentService = mock(EnrollmentService.class);
+        when(enrollmentService.processOneFromQueue(anyLong())).thenAnswer(inv -> {
+            Long userId = queue.popOne(inv.getArgument(0));
+            if (userId == null) return false;
+            LockSupport.parkNanos(TX_COST_NANOS + ROW_COST_NANOS);
+            settledAt[userId.intValue()] = System.nanoTime();
+            done.countDown();
+            return true;
+        });
+        when(enrollmentService.processBatchFromQueue(anyLong(), anyInt())).thenAnswer(inv -> {
+            List<Long> userIds = queue.popMany(inv.getArgument(0), inv.getArgument(1));
+            if (userIds.isEmpty()) return 0;
+            LockSupport.parkNanos(TX_COST_NANOS + ROW_COST_NANOS * userIds.size());
+            long now = System.nanoTime();
+            for (Long userId : userIds) {
+                settledAt[userId.intValue()] = now;
+                done.countDown();
+            }
+            return userIds.size();
+        });
+
+        EnrollQueueProcessor processor = new EnrollQueueProcessor(queue, enrollmentService, properties, new EnrollDrainMeter());
+        processorRef[0] = processor;
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        if (mode == ProcessorMode.POLLING) {
+            scheduler.scheduleWithFixedDelay(processor::processQueues,
+                    properties.getPollIntervalMs(), properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+        processor.start();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            enqueuedAt[i] = System.nanoTime();
+            queue.enqueue((long) (i % COURSES) + 1, (long) i, REQUESTS);
+        }
+        done.await(10, TimeUnit.MINUTES);
+        long end = Arrays.stream(settledAt).max().orElse(start);
+
+        processor.stop();
+        scheduler.shutdownNow();
+
+        long[] waits = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) waits[i] = settledAt[i] - enqueuedAt[i];
+        Arrays.sort(waits);
+        return new Result(
+                TimeUnit.NANOSECONDS.toMillis(end - start),
+                TimeUnit.NANOSECONDS.toMillis(waits[REQUESTS / 2]),
+                TimeUnit.NANOSECONDS.toMillis(waits[(int) (REQUESTS * 0.99)]));
+    }
+
+    private record Result(long totalMs, long p50Ms, long p99Ms) {}
+}
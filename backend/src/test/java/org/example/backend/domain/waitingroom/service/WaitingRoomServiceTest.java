@@ -0,0 +1,175 @@
+package org.example.backend.domain.waitingroom.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.domain.waitingroom.dto.WaitingRoomResponse;
+import org.example.backend.global.config.JwtProperties;
+import org.example.backend.global.config.WaitingRoomProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 접속 대기실 토큰 서명·사용자 묶기·만료와 입장 속도·동시 입장 제한.
+ */
+class WaitingRoomServiceTest {
+
+    private WaitingRoomProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WaitingRoomProperties();
+        properties.setEnabled(true);
+        properties.setSecret("waiting-room-test-secret");
+        properties.setAdmitPerSecond(1000);
+        properties.setMaxActive(100);
+    }
+
+    @Test
+    void enter_rejectsForgedAndTamperedTokens() throws Exception {
+        WaitingRoomService service = service();
+        String token = admit(service, 7L).getAdmissionToken();
+        assertThat(service.enter(token, 7L)).isTrue();
+
+        String payload = token.substring(0, token.lastIndexOf('.'));
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        String[] parts = payload.split("\\.");
+
+        assertThat(service.enter(null, 7L)).isFalse();
+        assertThat(service.enter("", 7L)).isFalse();
+        assertThat(service.enter(payload, 7L)).isFalse();
+        assertThat(service.enter(payload + ".forged", 7L)).isFalse();
+        // 만료 시각을 늘리거나 다른 사용자로 바꾸면 서명이 맞지 않음
+        assertThat(service.enter("a." + parts[1] + "." + (Long.parseLong(parts[2]) + 3600) + ".7." + signature, 7L))
+                .isFalse();
+        assertThat(service.enter("a." + parts[1] + "." + parts[2] + ".8." + signature, 8L)).isFalse();
+        // 다른 키로 서명한 토큰
+        properties.setSecret("another-secret");
+        WaitingRoomService other = service();
+        String foreign = admit(other, 7L).getAdmissionToken();
+        assertThat(service.enter(foreign, 7L)).isFalse();
+        // 대기표는 입장 토큰으로 쓸 수 없음
+        assertThat(service.enter(admit(service, 7L).getTicket(), 7L)).isFalse();
+    }
+
+    @Test
+    void token_isBoundToTheUserWhoClaimedIt() throws Exception {
+        WaitingRoomService service = service();
+        WaitingRoomResponse admitted = admit(service, 7L);
+        String token = admitted.getAdmissionToken();
+
+        assertThat(service.enter(token, 7L)).isTrue();
+        assertThat(service.enter(token, 8L)).isFalse();
+        assertThat(service.enter(token, null)).isFalse();
+        // 다른 사용자는 같은 대기표로 토큰을 받을 수 없음
+        assertThatThrownBy(() -> service.status(admitted.getTicket(), 8L))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 비로그인 토큰은 비로그인 요청에만
+        String anonymous = service.status(admitted.getTicket(), null).getAdmissionToken();
+        assertThat(service.enter(anonymous, null)).isTrue();
+        assertThat(service.enter(anonymous, 7L)).isFalse();
+    }
+
+    @Test
+    void loginAfterAnonymousClaim_bindsSlot() throws Exception {
+        WaitingRoomService service = service();
+        String ticket = service.issueTicket().getTicket();
+        Thread.sleep(20);
+        service.admit();
+        assertThat(service.status(ticket, null).getStatus()).isEqualTo("admitted");
+
+        String bound = service.status(ticket, 7L).getAdmissionToken();
+        assertThat(service.enter(bound, 7L)).isTrue();
+        assertThatThrownBy(() -> service.status(ticket, 8L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void idleSlot_isReleased() throws Exception {
+        properties.setIdleTimeoutSeconds(0);
+        WaitingRoomService service = service();
+        String token = admit(service, 7L).getAdmissionToken();
+
+        assertThat(service.enter(token, 7L)).isFalse();
+        service.admit();
+        assertThat(service.activeCount()).isZero();
+    }
+
+    @Test
+    void expiredAdmissionToken_isRejected() throws Exception {
+        properties.setAdmissionTtlSeconds(0);
+        WaitingRoomService service = service();
+        String token = admit(service, 7L).getAdmissionToken();
+
+        assertThat(service.enter(token, 7L)).isFalse();
+    }
+
+    @Test
+    void unclaimedTurn_expiresAfterGrace() throws Exception {
+        properties.setClaimGraceSeconds(0);
+        WaitingRoomService service = service();
+        String ticket = service.issueTicket().getTicket();
+        Thread.sleep(20);
+        service.admit();
+
+        assertThat(service.status(ticket, 7L).getStatus()).isEqualTo("expired");
+    }
+
+    @Test
+    void status_rejectsUnknownTicket() {
+        WaitingRoomService service = service();
+        String ticket = service.issueTicket().getTicket();
+        String unissued = ticket.replaceFirst("^t\\.1\\.", "t.2.");
+
+        assertThatThrownBy(() -> service.status(unissued, 7L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.status("t.1", 7L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void admit_stopsAtMaxActive() throws Exception {
+        properties.setMaxActive(3);
+        WaitingRoomService service = service();
+        for (int i = 0; i < 10; i++) service.issueTicket();
+        Thread.sleep(20);
+
+        service.admit();
+        assertThat(service.activeCount()).isEqualTo(3);
+        assertThat(service.waitingCount()).isEqualTo(7);
+
+        Thread.sleep(20);
+        service.admit();
+        assertThat(service.activeCount()).isEqualTo(3);
+        assertThat(service.waitingCount()).isEqualTo(7);
+    }
+
+    @Test
+    void admit_capsBurstAtOneSecondOfRate() throws Exception {
+        properties.setAdmitPerSecond(10);
+        WaitingRoomService service = service();
+        for (int i = 0; i < 30; i++) service.issueTicket();
+        Thread.sleep(1500);   // 쌓인 입장 가능 인원은 초당 인원(10)을 넘지 않음
+
+        service.admit();
+        assertThat(service.activeCount()).isEqualTo(10);
+        assertThat(service.waitingCount()).isEqualTo(20);
+
+        WaitingRoomResponse waiting = service.status(service.issueTicket().getTicket(), null);
+        assertThat(waiting.getStatus()).isEqualTo("waiting");
+        assertThat(waiting.getPosition()).isEqualTo(21);
+        assertThat(waiting.getEtaSeconds()).isEqualTo(3);
+    }
+
+    private WaitingRoomService service() {
+        return new WaitingRoomService(properties, new JwtProperties(), new SimpleMeterRegistry());
+    }
+
+    /** 대기표를 받아 차례를 들이고 userId로 입장 토큰을 받음 */
+    private WaitingRoomResponse admit(WaitingRoomService service, Long userId) throws InterruptedException {
+        String ticket = service.issueTicket().getTicket();
+        Thread.sleep(20);
+        service.admit();
+        WaitingRoomResponse response = service.status(ticket, userId);
+        assertThat(response.getStatus()).isEqualTo("admitted");
+        return response;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.backend.global.jwt;
+
+import org.example.backend.domain.user.entity.Role;
+import org.example.backend.global.config.JwtProperties;
+import org.example.backend.global.config.JwtProperties.PrincipalSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtAuthenticationFilter 한 번 통과 시간: 요청마다 사용자 조회(DATABASE) vs 토큰 값 + 사용자 캐시(CLAIMS).
+ * data.sql의 학생 600명 토큰을 돌아가며 보낸다 (H2 메모리 DB라 실제 DB보다 조회 비용이 작게 나온다).
+ * 실행: ./gradlew benchmark --tests '*JwtAuthenticationFilterBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "enroll.queue.backend=memory")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int REQUESTS = 100_000;
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+    @Autowired
+    private JwtProperties properties;
+
+    @AfterEach
+    void tearDown() {
+        properties.setPrincipalSource(PrincipalSource.DATABASE);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterLatency_databaseVsClaims() throws Exception {
+        List<String> tokens = LongStream.rangeClosed(52, 651)
+                .mapToObj(userId -> tokenProvider.createAccessToken(userId, "s" + userId, Role.ROLE_STUDENT))
+                .toList();
+
+        Result database = run(PrincipalSource.DATABASE, tokens);
+        Result claims = run(PrincipalSource.CLAIMS, tokens);
+
+        print("DATABASE", database);
+        print("CLAIMS", claims);
+        assertThat(claims.p50Nanos).isLessThan(database.p50Nanos);
+    }
+
+    private Result run(PrincipalSource source, List<String> tokens) throws Exception {
+        properties.setPrincipalSource(source);
+        for (int i = 0; i < WARMUP; i++) pass(tokens.get(i % tokens.size()));
+
+        long[] nanos = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            nanos[i] = pass(tokens.get(i % tokens.size()));
+        }
+        Arrays.sort(nanos);
+        return new Result(nanos[REQUESTS / 2], nanos[(int) (REQUESTS * 0.99)], LongStream.of(nanos).sum() / REQUESTS);
+    }
+
+    private long pass(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/enrollments/status/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        SecurityContextHolder.clearContext();
+
+        long start = System.nanoTime();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        return elapsed;
+    }
+
+    private void print(String label, Result r) {
+        System.out.printf("[jwt-filter] %-8s p50=%6.1f us  p99=%6.1f us  mean=%6.1f us%n",
+                label, r.p50Nanos / 1000.0, r.p99Nanos / 1000.0, r.meanNanos / 1000.0);
+    }
+
+    private record Result(long p50Nanos, long p99Nanos, long meanNanos) {
+    }
+}
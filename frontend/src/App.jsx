@@ -7,6 +7,7 @@ import { LoginPage } from './pages/common/LoginPage';
 import { SignupPage } from './pages/common/SignupPage';
 import { ForbiddenPage } from './pages/common/ForbiddenPage';
 import { NotFoundPage } from './pages/common/NotFoundPage';
+import { WaitingRoomPage } from './pages/common/WaitingRoomPage';
 
 import { StudentHomePage } from './pages/student/StudentHomePage';
 import { CourseListPage } from './pages/student/CourseListPage';
@@ -45,6 +46,7 @@ function AppRoutes() {
       <Route path="/signup" element={<SignupPage />} />
       <Route path="/403" element={<ForbiddenPage />} />
       <Route path="/404" element={<NotFoundPage />} />
+      <Route path="/waiting-room" element={<WaitingRoomPage />} />
 
       <Route
         path="/student"
@@ -1,5 +1,5 @@
 import { createContext, useContext, useState, useCallback, useEffect } from 'react';
-import { authApi } from '../lib/api';
+import { authApi, waitingRoomApi } from '../lib/api';
 
 const AuthContext = createContext(null);
 
@@ -35,6 +35,7 @@ export function AuthProvider({ children }) {
   const login = useCallback(async (body) => {
     const data = await authApi.login(body);
     localStorage.setItem('token', data.accessToken || data.token);
+    await waitingRoomApi.reclaim();
     const userData = await loadUser();
     return { ...data, user: userData };
   }, [loadUser]);
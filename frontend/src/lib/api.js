@@ -4,6 +4,19 @@ function getToken() {
   return localStorage.getItem('token');
 }
 
+// 접속 대기실 입장 토큰 (대기실이 켜진 서버에서만 받음)
+function getAdmissionToken() {
+  return localStorage.getItem('admissionToken');
+}
+
+/** 입장 토큰이 없거나 만료됐다는 403이면 대기실로 (돌아올 경로 기억) */
+function toWaitingRoom(data) {
+  if (!data?.waitingRoom || window.location.pathname === '/waiting-room') return;
+  localStorage.removeItem('admissionToken');
+  const next = window.location.pathname + window.location.search;
+  window.location.assign(`/waiting-room?next=${encodeURIComponent(next)}`);
+}
+
 export async function request(path, options = {}) {
   const url = `${API_BASE}${path}`;
   const headers = {
@@ -12,18 +25,66 @@ export async function request(path, options = {}) {
   };
   const token = getToken();
   if (token) headers.Authorization = `Bearer ${token}`;
+  const admission = getAdmissionToken();
+  if (admission) headers['X-Admission-Token'] = admission;
 
   const res = await fetch(url, { ...options, headers });
-  const data = res.ok ? await res.json().catch(() => ({})) : null;
+  const data = await res.json().catch(() => (res.ok ? {} : null));
   if (!res.ok) {
+    if (res.status === 403) toWaitingRoom(data);
     const err = new Error(data?.message || res.statusText || 'Request failed');
     err.status = res.status;
     err.data = data;
+    if (res.status === 429) err.retryAfter = Number(res.headers.get('Retry-After')) || 1;
     throw err;
   }
   return data;
 }
 
+/**
+ * SSE 구독 (Authorization 헤더가 필요해 EventSource 대신 fetch 스트림으로 읽음).
+ * onEvent(name, data)를 호출하고, 연결이 끊기면 resolve. signal로 중단.
+ */
+export async function subscribe(path, onEvent, signal) {
+  const headers = { Accept: 'text/event-stream' };
+  const token = getToken();
+  if (token) headers.Authorization = `Bearer ${token}`;
+  const admission = getAdmissionToken();
+  if (admission) headers['X-Admission-Token'] = admission;
+
+  const res = await fetch(`${API_BASE}${path}`, { headers, signal });
+  if (!res.ok || !res.body) {
+    const err = new Error(res.statusText || 'Stream failed');
+    err.status = res.status;
+    if (res.status === 429) err.retryAfter = Number(res.headers.get('Retry-After')) || 1;
+    throw err;
+  }
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += value;
+    let m;
+    while ((m = /\r?\n\r?\n/.exec(buffer))) {
+      const block = buffer.slice(0, m.index);
+      buffer = buffer.slice(m.index + m[0].length);
+      let name = 'message';
+      const data = [];
+      for (const line of block.split(/\r?\n/)) {
+        if (line.startsWith('event:')) name = line.slice(6).trim();
+        else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+      }
+      if (data.length === 0) continue; // comment(ping)
+      try {
+        onEvent(name, JSON.parse(data.join('\n')));
+      } catch {
+        // ignore malformed event
+      }
+    }
+  }
+}
+
 // Auth (백엔드: username=학번/사번, accessToken)
 export const authApi = {
   login: (body) => request('/auth/login', { method: 'POST', body: JSON.stringify({ username: body.username || body.studentId, password: body.password }) }),
@@ -32,6 +93,21 @@ export const authApi = {
   changePassword: (body) => request('/users/me/password', { method: 'PUT', body: JSON.stringify(body) }).catch(() => { throw new Error('비밀번호 변경 API가 없습니다.'); }),
 };
 
+// 접속 대기실: 대기표 발급 → 상태 폴링 → admitted면 admissionToken 저장 (입장 토큰은 받은 사용자에게 묶임)
+export const WAITING_TICKET_KEY = 'waitingTicket';
+
+export const waitingRoomApi = {
+  issueTicket: () => request('/waiting-room/tickets', { method: 'POST' }),
+  status: (ticket) => request('/waiting-room/status', { headers: { 'X-Waiting-Ticket': ticket } }),
+  // 로그인 직후 같은 대기표로 내 계정에 묶인 입장 토큰을 다시 받음 (대기표가 없으면 그대로)
+  reclaim: async () => {
+    const ticket = localStorage.getItem(WAITING_TICKET_KEY);
+    if (!ticket) return;
+    const res = await waitingRoomApi.status(ticket).catch(() => null);
+    if (res?.status === 'admitted') localStorage.setItem('admissionToken', res.admissionToken);
+  },
+};
+
 // Departments (공개/회원가입용)
 export const departmentsApi = {
   list: () => request('/departments'),
@@ -57,11 +133,19 @@ export const coursesApi = {
   },
   get: (id) => request(`/courses/${id}`),
   apply: (id) => request('/enrollments', { method: 'POST', body: JSON.stringify({ courseId: id }) }),
+  // 여러 강의 한 번에 신청 → { results: [ { courseId, inWaitlist, waitingPosition, soldOut, message }, ... ] }
+  applyCart: (ids) => request('/enrollments/cart', { method: 'POST', body: JSON.stringify({ courseIds: ids }) }),
   cancel: (id) => request(`/enrollments/${id}`, { method: 'DELETE' }),
   myEnrollments: () => request('/enrollments/me'),
   waitingPositions: () => request('/enrollments/waiting').then((r) => r?.positions ?? []),
   leaveWaiting: (courseId) => request(`/enrollments/waiting/${courseId}`, { method: 'DELETE' }),
+  // 빈자리 대기 (정원이 찬 강의, 자리가 나면 자동 신청)
+  seatWaitlist: () => request('/enrollments/seat-waitlist').then((r) => r?.positions ?? []),
+  joinSeatWaitlist: (courseId) => request('/enrollments/seat-waitlist', { method: 'POST', body: JSON.stringify({ courseId }) }),
+  leaveSeatWaitlist: (courseId) => request(`/enrollments/seat-waitlist/${courseId}`, { method: 'DELETE' }),
   enrollStatus: (courseId) => request(`/enrollments/status?courseId=${courseId}`),
+  // 대기 순번(positions)·처리 결과(result) 실시간 수신
+  enrollStream: (onEvent, signal) => subscribe('/enrollments/stream', onEvent, signal),
 };
 
 // Professor - Courses (백엔드 경로: /api/professors/courses)
@@ -86,6 +170,8 @@ export const adminApi = {
     const res = await request('/admin/courses');
     return Array.isArray(res) ? res : res?.content ?? res;
   },
+  // 강의별 수강신청 현황 (snapshot: 전체, courses: 바뀐 강의만)
+  dashboardStream: (onEvent, signal) => subscribe('/admin/courses/dashboard', onEvent, signal),
 };
 
 // Time slots for dropdowns (강의 시간 선택용)
@@ -1,31 +1,76 @@
-import { useQuery } from '@tanstack/react-query';
+import { useEffect, useState } from 'react';
 import { Layout } from '../../components/Layout';
 import { adminApi } from '../../lib/api';
 import { BookOpen, Loader2, Users } from 'lucide-react';
 
+const RECONNECT_DELAY = 3000;  // 현황판 재연결 대기
+
 export function CoursesMonitorPage() {
-  const { data: courses = [], isLoading } = useQuery({
-    queryKey: ['adminCourses'],
-    queryFn: adminApi.courses,
-  });
+  const [courses, setCourses] = useState(null);  // courseId → 현황
+  const [totals, setTotals] = useState(null);
+  const [connected, setConnected] = useState(false);
+
+  // 강의별 현황 실시간 수신: snapshot은 전체 교체, courses는 바뀐 강의만 반영 (끊기면 재연결)
+  useEffect(() => {
+    const controller = new AbortController();
+    const onEvent = (name, data) => {
+      if (name !== 'snapshot' && name !== 'courses') return;
+      setConnected(true);
+      setTotals(data?.totals ?? null);
+      setCourses((prev) => {
+        const next = name === 'snapshot' ? new Map() : new Map(prev ?? []);
+        for (const c of data?.courses ?? []) next.set(c.courseId, c);
+        for (const id of data?.removed ?? []) next.delete(id);
+        return next;
+      });
+    };
+    (async () => {
+      while (!controller.signal.aborted) {
+        let delay = RECONNECT_DELAY;
+        try {
+          await adminApi.dashboardStream(onEvent, controller.signal);
+        } catch (err) {
+          if (err?.retryAfter) delay = err.retryAfter * 1000;
+        }
+        if (controller.signal.aborted) return;
+        setConnected(false);
+        await new Promise((r) => setTimeout(r, delay));
+      }
+    })();
+    return () => controller.abort();
+  }, []);
+
+  const list = courses ? [...courses.values()].sort((a, b) => a.courseId - b.courseId) : [];
+  const isLoading = courses == null;
 
   return (
     <Layout title="전체 강의 모니터링">
       <div className="space-y-4">
+        {totals && (
+          <div className="bg-white rounded-xl border border-slate-200 p-4 flex flex-wrap gap-x-6 gap-y-1 text-sm text-slate-600">
+            <span>신청 {totals.enrolled.toLocaleString()} / {totals.capacity.toLocaleString()}명</span>
+            <span>대기열 {totals.queued.toLocaleString()}명</span>
+            <span>처리 {totals.drainRate}명/초</span>
+            <span>거절 매진 {totals.soldOut} · 마감 {totals.full} · 실패 {totals.error}</span>
+            <span className={connected ? 'text-emerald-600' : 'text-slate-400'}>{connected ? '실시간' : '재연결 중'}</span>
+          </div>
+        )}
+
         {isLoading ? (
           <div className="flex justify-center py-12">
             <Loader2 className="w-8 h-8 animate-spin text-indigo-600" />
           </div>
         ) : (
           <div className="grid gap-4 md:grid-cols-2 lg:grid-cols-3">
-            {courses.map((course) => {
-              const enrolled = course.currentEnrollment ?? course.enrolledCount ?? 0;
+            {list.map((course) => {
+              const enrolled = course.enrolled ?? 0;
               const capacity = course.capacity ?? 0;
               const isFull = capacity > 0 && enrolled >= capacity;
               const ratio = capacity > 0 ? Math.round((enrolled / capacity) * 100) : 0;
+              const rejected = (course.soldOut ?? 0) + (course.full ?? 0) + (course.error ?? 0);
               return (
                 <div
-                  key={course.id}
+                  key={course.courseId}
                   className={`bg-white rounded-xl border p-5 ${
                     isFull ? 'border-amber-200 bg-amber-50/30' : 'border-slate-200'
                   }`}
@@ -35,8 +80,8 @@ export function CoursesMonitorPage() {
                       <BookOpen className="w-5 h-5 text-indigo-600" />
                     </div>
                     <div className="min-w-0 flex-1">
-                      <h3 className="font-semibold text-slate-800 truncate">{course.title ?? course.name}</h3>
-                      <p className="text-sm text-slate-500">{course.departmentName} · {course.professorName ?? '-'}</p>
+                      <h3 className="font-semibold text-slate-800 truncate">{course.title}</h3>
+                      <p className="text-sm text-slate-500">{course.courseCode}</p>
                       <div className="mt-2 flex items-center gap-2 text-sm">
                         <Users className="w-4 h-4 text-slate-400" />
                         <span className={isFull ? 'text-amber-700 font-medium' : 'text-slate-600'}>
@@ -50,6 +95,12 @@ export function CoursesMonitorPage() {
                           style={{ width: `${Math.min(ratio, 100)}%` }}
                         />
                       </div>
+                      {(course.queued > 0 || course.drainRate > 0 || rejected > 0) && (
+                        <p className="mt-2 text-xs text-slate-500">
+                          대기열 {course.queued}명 · 처리 {course.drainRate}명/초
+                          {rejected > 0 && ` · 거절 ${rejected}건 (매진 ${course.soldOut}, 마감 ${course.full}, 실패 ${course.error})`}
+                        </p>
+                      )}
                     </div>
                   </div>
                 </div>
@@ -58,7 +109,7 @@ export function CoursesMonitorPage() {
           </div>
         )}
 
-        {!isLoading && courses.length === 0 && (
+        {!isLoading && list.length === 0 && (
           <div className="text-center py-12 text-slate-500">
             <BookOpen className="w-12 h-12 mx-auto mb-4 opacity-50" />
             <p>등록된 강의가 없습니다.</p>
@@ -0,0 +1,73 @@
+import { useEffect, useState } from 'react';
+import { useSearchParams } from 'react-router-dom';
+import { Hourglass } from 'lucide-react';
+import { WAITING_TICKET_KEY, waitingRoomApi } from '../../lib/api';
+
+export function WaitingRoomPage() {
+  const [searchParams] = useSearchParams();
+  const [state, setState] = useState(null);
+  const [error, setError] = useState('');
+  const next = searchParams.get('next');
+
+  useEffect(() => {
+    let timer;
+    let cancelled = false;
+
+    const poll = async () => {
+      try {
+        // 대기표는 새로고침해도 순번이 유지되고 로그인 후 입장 토큰을 다시 받을 수 있도록 저장
+        let ticket = localStorage.getItem(WAITING_TICKET_KEY);
+        let res = ticket ? await waitingRoomApi.status(ticket).catch(() => null) : null;
+        if (!res || res.status === 'expired') {
+          res = await waitingRoomApi.issueTicket();
+          ticket = res.ticket;
+          localStorage.setItem(WAITING_TICKET_KEY, ticket);
+        }
+        if (cancelled) return;
+        if (res.status === 'admitted') {
+          localStorage.setItem('admissionToken', res.admissionToken);
+          window.location.replace(next && next.startsWith('/') ? next : '/');
+          return;
+        }
+        setState(res);
+        setError('');
+        timer = setTimeout(poll, Math.min(Math.max(res.etaSeconds ?? 1, 1), 5) * 1000);
+      } catch (err) {
+        if (cancelled) return;
+        setError(err.message || '대기 상태를 확인하지 못했습니다.');
+        timer = setTimeout(poll, 3000);
+      }
+    };
+    poll();
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [next]);
+
+  return (
+    <div className="min-h-screen bg-gradient-to-br from-indigo-50 to-slate-100 flex items-center justify-center p-4">
+      <div className="w-full max-w-md bg-white rounded-2xl shadow-xl p-8 text-center">
+        <div className="inline-flex items-center justify-center w-14 h-14 rounded-full bg-indigo-100 mb-6">
+          <Hourglass className="w-8 h-8 text-indigo-600" />
+        </div>
+        <h1 className="text-2xl font-bold text-slate-800 mb-2">접속 대기 중</h1>
+        <p className="text-slate-500 text-sm mb-6">
+          접속자가 많아 순서대로 입장하고 있습니다. 이 화면을 닫거나 새로고침해도 순번은 유지됩니다.
+        </p>
+        {state?.position != null && (
+          <div className="mb-4">
+            <p className="text-sm text-slate-500">내 앞 대기 인원</p>
+            <p className="text-4xl font-bold text-indigo-600">{(state.position - 1).toLocaleString()}명</p>
+          </div>
+        )}
+        {state?.etaSeconds != null && (
+          <p className="text-sm text-slate-600">예상 대기 시간 약 {state.etaSeconds.toLocaleString()}초</p>
+        )}
+        {error && (
+          <div className="mt-4 text-sm text-red-600 bg-red-50 px-3 py-2 rounded-lg">{error}</div>
+        )}
+      </div>
+    </div>
+  );
+}
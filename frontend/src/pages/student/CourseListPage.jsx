@@ -1,18 +1,21 @@
-import { useState, useEffect, useRef } from 'react';
+import { useState, useEffect } from 'react';
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { Layout } from '../../components/Layout';
 import { coursesApi, departmentsApi } from '../../lib/api';
 import { Filter, BookOpen, UserCheck, Loader2, CheckCircle, AlertCircle, Clock, UserX } from 'lucide-react';
 
 const REFETCH_INTERVAL = 10000; // 실시간 잔여석 갱신 10초
-const POLL_INTERVAL = 1500;    // 신청 상태 폴링
+const RECONNECT_DELAY = 3000;  // 실시간 알림 재연결 대기
+
+function formatEta(seconds) {
+  return seconds < 60 ? `${seconds}초` : `${Math.ceil(seconds / 60)}분`;
+}
 
 export function CourseListPage() {
   const [deptFilter, setDeptFilter] = useState('');
   const [categoryFilter, setCategoryFilter] = useState('');
-  const [pollingCourseId, setPollingCourseId] = useState(null);
+  const [noConflict, setNoConflict] = useState(false);
   const queryClient = useQueryClient();
-  const pollRef = useRef(null);
 
   const { data: departments = [] } = useQuery({
     queryKey: ['departments'],
@@ -20,8 +23,12 @@ export function CourseListPage() {
   });
 
   const { data: coursesRaw = [], isLoading } = useQuery({
-    queryKey: ['courses', { departmentId: deptFilter || undefined, category: categoryFilter || undefined }],
-    queryFn: () => coursesApi.list({ departmentId: deptFilter || undefined, category: categoryFilter || undefined }),
+    queryKey: ['courses', { departmentId: deptFilter || undefined, category: categoryFilter || undefined, noConflict }],
+    queryFn: () => coursesApi.list({
+      departmentId: deptFilter || undefined,
+      category: categoryFilter || undefined,
+      noConflict: noConflict || undefined,
+    }),
     refetchInterval: REFETCH_INTERVAL,
   });
 
@@ -35,8 +42,14 @@ export function CourseListPage() {
     queryFn: coursesApi.waitingPositions,
   });
 
+  const { data: seatWaitlist = [] } = useQuery({
+    queryKey: ['seatWaitlist'],
+    queryFn: coursesApi.seatWaitlist,
+  });
+
   const courseIds = new Set((myEnrollments || []).map((e) => e.courseId));
-  const waitingByCourse = Object.fromEntries((waitingPositions || []).map((p) => [p.courseId, p.position]));
+  const seatWaitByCourse = Object.fromEntries((seatWaitlist || []).map((p) => [p.courseId, p.position]));
+  const waitingByCourse = Object.fromEntries((waitingPositions || []).map((p) => [p.courseId, p]));
   const courses = (Array.isArray(coursesRaw) ? coursesRaw : []).map((c) => ({
     ...c,
     name: c.title ?? c.name,
@@ -45,7 +58,9 @@ export function CourseListPage() {
     remainingSeats: (c.capacity ?? 0) - (c.currentEnrollment ?? c.enrolledCount ?? 0),
     creditType: c.category ?? c.creditType,
     enrolled: courseIds.has(c.id),
-    waitingPosition: waitingByCourse[c.id] ?? 0,
+    waitingPosition: waitingByCourse[c.id]?.position ?? 0,
+    waitingEta: waitingByCourse[c.id]?.etaSeconds,
+    seatWaitPosition: seatWaitByCourse[c.id] ?? 0,
   }));
 
   const applyMutation = useMutation({
@@ -57,37 +72,37 @@ export function CourseListPage() {
     },
   });
 
+  // 대기 순번·처리 결과 실시간 수신 (끊기면 재연결)
   useEffect(() => {
-    if (pollingCourseId == null) return;
-    pollRef.current = setInterval(async () => {
-      try {
-        const st = await coursesApi.enrollStatus(pollingCourseId);
-        if (st?.status === 'enrolled' || st?.status === 'success') {
-          if (pollRef.current) clearInterval(pollRef.current);
-          pollRef.current = null;
-          setPollingCourseId(null);
-          queryClient.invalidateQueries({ queryKey: ['myEnrollments'] });
-          queryClient.invalidateQueries({ queryKey: ['waitingPositions'] });
-          queryClient.invalidateQueries({ queryKey: ['courses'] });
-          return;
-        }
-        if (st?.status === 'full' || st?.status === 'error') {
-          if (pollRef.current) clearInterval(pollRef.current);
-          pollRef.current = null;
-          setPollingCourseId(null);
-          queryClient.invalidateQueries({ queryKey: ['waitingPositions'] });
-          queryClient.invalidateQueries({ queryKey: ['courses'] });
-          alert(st?.status === 'full' ? '정원 마감으로 신청되지 않았습니다.' : '신청 처리에 실패했습니다.');
-          return;
-        }
-      } catch {
-        // keep polling
+    const controller = new AbortController();
+    const onEvent = (name, data) => {
+      if (name === 'positions') {
+        queryClient.setQueryData(['waitingPositions'], data?.positions ?? []);
+        return;
+      }
+      if (name !== 'result') return;
+      queryClient.invalidateQueries({ queryKey: ['waitingPositions'] });
+      queryClient.invalidateQueries({ queryKey: ['courses'] });
+      if (data?.status === 'success') {
+        queryClient.invalidateQueries({ queryKey: ['myEnrollments'] });
+        queryClient.invalidateQueries({ queryKey: ['seatWaitlist'] });
+      } else if (data?.status === 'full' || data?.status === 'error') {
+        alert(data.status === 'full' ? '정원 마감으로 신청되지 않았습니다.' : '신청 처리에 실패했습니다.');
       }
-    }, POLL_INTERVAL);
-    return () => {
-      if (pollRef.current) clearInterval(pollRef.current);
     };
-  }, [pollingCourseId, queryClient]);
+    (async () => {
+      while (!controller.signal.aborted) {
+        let delay = RECONNECT_DELAY;
+        try {
+          await coursesApi.enrollStream(onEvent, controller.signal);
+        } catch (err) {
+          if (err?.retryAfter) delay = err.retryAfter * 1000; // 429: 서버가 알려준 시간만큼 대기
+        }
+        if (!controller.signal.aborted) await new Promise((r) => setTimeout(r, delay));
+      }
+    })();
+    return () => controller.abort();
+  }, [queryClient]);
 
   const leaveWaitingMutation = useMutation({
     mutationFn: (courseId) => coursesApi.leaveWaiting(courseId),
@@ -97,13 +112,19 @@ export function CourseListPage() {
     },
   });
 
+  const seatWaitMutation = useMutation({
+    mutationFn: ({ courseId, join }) => (join ? coursesApi.joinSeatWaitlist(courseId) : coursesApi.leaveSeatWaitlist(courseId)),
+    onSuccess: () => queryClient.invalidateQueries({ queryKey: ['seatWaitlist'] }),
+    onError: (err) => alert(err.data?.message || err.message || '빈자리 대기 처리에 실패했습니다.'),
+  });
+
   const handleApply = (course) => {
     if (course.enrolled) return;
     applyMutation.mutate(course.id, {
       onSuccess: (result) => {
-        const position = result?.waitingPosition ?? result?.position;
-        if (position != null) {
-          setPollingCourseId(course.id);
+        if (result?.soldOut) {
+          alert('남은 좌석보다 대기 인원이 많아 신청할 수 없습니다. (정원 마감)');
+          return;
         }
       },
       onError: (err) => {
@@ -144,6 +165,15 @@ export function CourseListPage() {
                 <option value="GENERAL">교양</option>
               </select>
             </div>
+            <label className="flex items-center gap-2 text-sm text-slate-600">
+              <input
+                type="checkbox"
+                checked={noConflict}
+                onChange={(e) => setNoConflict(e.target.checked)}
+                className="rounded border-slate-300"
+              />
+              시간 겹치는 강의 제외
+            </label>
           </div>
         </div>
 
@@ -192,6 +222,7 @@ export function CourseListPage() {
                     <>
                       <span className="inline-flex items-center gap-1 px-3 py-1.5 rounded-lg bg-amber-100 text-amber-800 text-sm">
                         <Clock className="w-4 h-4" /> 대기 {course.waitingPosition}번째
+                        {course.waitingEta != null && ` (약 ${formatEta(course.waitingEta)})`}
                       </span>
                       <button
                         type="button"
@@ -202,6 +233,29 @@ export function CourseListPage() {
                         <UserX className="w-4 h-4" /> 대기열 포기
                       </button>
                     </>
+                  ) : course.seatWaitPosition > 0 ? (
+                    <>
+                      <span className="inline-flex items-center gap-1 px-3 py-1.5 rounded-lg bg-sky-100 text-sky-800 text-sm">
+                        <Clock className="w-4 h-4" /> 빈자리 대기 {course.seatWaitPosition}번째
+                      </span>
+                      <button
+                        type="button"
+                        onClick={() => seatWaitMutation.mutate({ courseId: course.id, join: false })}
+                        disabled={seatWaitMutation.isPending}
+                        className="inline-flex items-center gap-1 px-3 py-1.5 text-sm border border-slate-300 rounded-lg hover:bg-slate-50"
+                      >
+                        <UserX className="w-4 h-4" /> 대기 취소
+                      </button>
+                    </>
+                  ) : course.remainingSeats <= 0 ? (
+                    <button
+                      type="button"
+                      onClick={() => seatWaitMutation.mutate({ courseId: course.id, join: true })}
+                      disabled={seatWaitMutation.isPending}
+                      className="inline-flex items-center gap-2 px-4 py-2 border border-indigo-300 text-indigo-700 rounded-lg hover:bg-indigo-50 disabled:opacity-50"
+                    >
+                      <Clock className="w-4 h-4" /> 빈자리 대기
+                    </button>
                   ) : (
                     <button
                       type="button"